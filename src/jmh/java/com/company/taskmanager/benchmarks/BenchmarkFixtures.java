@@ -0,0 +1,126 @@
+package com.company.taskmanager.benchmarks;
+
+import com.company.taskmanager.models.comment.Comment;
+import com.company.taskmanager.models.task.Priority;
+import com.company.taskmanager.models.task.Status;
+import com.company.taskmanager.models.task.Task;
+import com.company.taskmanager.models.user.Role;
+import com.company.taskmanager.models.user.User;
+import com.company.taskmanager.services.jwt.JwtService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Общие данные и фабрики компонентов для бенчмарков.
+ * <p>
+ * Компоненты собираются вручную, без контекста Spring, чтобы в измерения
+ * попадала только работа самих сервисов и мапперов.
+ * </p>
+ */
+final class BenchmarkFixtures {
+
+    /**
+     * Ключ подписи токенов (Base64, 256 бит).
+     */
+    static final String SIGNING_KEY =
+            "NTNv7j0TuYARvmNMmWXo6fKvM4o6nv/aUi9ryX38ZH+L1bkrnD1ObOQ8JAUmHCBq7Iy7otZcyAagBLHVKvvYaIpmMuxmARQ97jUVG16Jkpkp1wXOPsrF9zwew6TpczyH";
+
+    /**
+     * Время жизни токена, мс.
+     */
+    static final long TOKEN_EXPIRATION = 3_600_000L;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Создает и инициализирует {@link JwtService}.
+     *
+     * @return сервис JWT
+     */
+    static JwtService jwtService() {
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "jwtSigningKey", SIGNING_KEY);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", TOKEN_EXPIRATION);
+        ReflectionTestUtils.setField(jwtService, "cacheMaxSize", 10_000L);
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+        return jwtService;
+    }
+
+    /**
+     * Создает пользователей с последовательными идентификаторами.
+     *
+     * @param count количество пользователей
+     * @return список пользователей
+     */
+    static List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            users.add(User.builder()
+                    .id((long) i)
+                    .username("user" + i)
+                    .email("user" + i + "@mail.com")
+                    .password("$2a$12$SQ./CdZ8r.pV3WmPSjv3x.44//hq5/RM9eRxbULA4daANkit0jOrK")
+                    .role(Role.USER)
+                    .priority(1)
+                    .createdAt(new Date())
+                    .updatedAt(new Date())
+                    .version(1L)
+                    .build());
+        }
+        return users;
+    }
+
+    /**
+     * Создает задачу первого пользователя с указанным количеством
+     * исполнителей и комментариев.
+     *
+     * @param users     пользователи
+     * @param executors количество исполнителей
+     * @param comments  количество комментариев
+     * @return задача
+     */
+    static Task task(List<User> users, int executors, int comments) {
+        Task task = Task.builder()
+                .id(1L)
+                .title("Prepare documents")
+                .description("Prepare documents for the meeting")
+                .status(Status.IN_PROCESS)
+                .priority(Priority.HIGH)
+                .author(users.get(0))
+                .createdAt(new Date())
+                .updatedAt(new Date())
+                .version(1L)
+                .build();
+        for (int i = 0; i < executors; i++) {
+            task.addExecutor(users.get(i % users.size()));
+        }
+        for (int i = 0; i < comments; i++) {
+            task.addComment(comment(task, users.get(i % users.size()), i));
+        }
+        return task;
+    }
+
+    /**
+     * Создает комментарий к задаче.
+     *
+     * @param task задача
+     * @param user автор комментария
+     * @param id   идентификатор комментария
+     * @return комментарий
+     */
+    static Comment comment(Task task, User user, long id) {
+        return Comment.builder()
+                .id(id)
+                .text("Do we have an update?")
+                .task(task)
+                .user(user)
+                .createdAt(new Date())
+                .updatedAt(new Date())
+                .version(1L)
+                .build();
+    }
+}
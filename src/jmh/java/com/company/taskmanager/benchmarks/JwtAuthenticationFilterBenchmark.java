@@ -0,0 +1,106 @@
+package com.company.taskmanager.benchmarks;
+
+import com.company.taskmanager.config.JwtAuthenticationFilter;
+import com.company.taskmanager.models.user.User;
+import com.company.taskmanager.repositories.user.UserRepository;
+import com.company.taskmanager.services.jwt.JwtService;
+import com.company.taskmanager.services.jwt.TokenRevocationService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк обработки запроса фильтром {@link JwtAuthenticationFilter}
+ * с заглушкой {@link com.company.taskmanager.services.user.UserService}.
+ * <p>
+ * Измеряется полный проход фильтра: разбор заголовка, проверка токена,
+ * загрузка пользователя и установка контекста безопасности, в обычном
+ * режиме и в режиме доверия claims.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    /**
+     * Включен ли режим доверия claims.
+     */
+    @Param({"false", "true"})
+    public boolean claimsTrusted;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    /**
+     * Подготовка фильтра и токена пользователя.
+     */
+    @Setup
+    public void setUp() {
+        List<User> users = BenchmarkFixtures.users(100);
+        JwtService jwtService = BenchmarkFixtures.jwtService();
+        TokenRevocationService revocationService = new TokenRevocationService(
+                userRepository(), Duration.ofSeconds(30), 10_000L);
+        filter = new JwtAuthenticationFilter(jwtService,
+                new StubUserService(users), revocationService, claimsTrusted);
+        authorization = JwtAuthenticationFilter.BEARER_PREFIX
+                + jwtService.generateToken(users.get(0));
+    }
+
+    /**
+     * Обработка запроса с действительным токеном.
+     *
+     * @param blackhole приемник результата
+     * @throws ServletException если фильтр завершился с ошибкой
+     * @throws IOException      если фильтр завершился с ошибкой ввода/вывода
+     */
+    @Benchmark
+    public void doFilter(Blackhole blackhole)
+            throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/task");
+        request.addHeader(JwtAuthenticationFilter.HEADER_NAME, authorization);
+        FilterChain chain = (req, res) -> blackhole.consume(
+                SecurityContextHolder.getContext().getAuthentication());
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    /**
+     * Создает заглушку репозитория пользователей, которая отвечает
+     * только на запрос текущей версии учетной записи.
+     *
+     * @return репозиторий пользователей
+     */
+    private static UserRepository userRepository() {
+        return (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findVersionById")) {
+                        return Optional.of(1L);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
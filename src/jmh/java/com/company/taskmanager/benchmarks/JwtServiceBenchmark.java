@@ -0,0 +1,81 @@
+package com.company.taskmanager.benchmarks;
+
+import com.company.taskmanager.models.user.User;
+import com.company.taskmanager.services.jwt.JwtService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки операций {@link JwtService}: выпуск токена, извлечение имени
+ * пользователя и проверка токена.
+ * <p>
+ * Повторная проверка одного и того же токена обслуживается кэшем
+ * проверенных токенов, поэтому отдельно измеряется проверка нового
+ * токена (с проверкой подписи).
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    /**
+     * Подготовка сервиса и заранее выпущенного токена.
+     */
+    @Setup
+    public void setUp() {
+        jwtService = BenchmarkFixtures.jwtService();
+        user = BenchmarkFixtures.users(1).get(0);
+        token = jwtService.generateToken(user);
+    }
+
+    /**
+     * Выпуск нового токена.
+     *
+     * @return токен
+     */
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    /**
+     * Извлечение имени пользователя из ранее проверенного токена.
+     *
+     * @return имя пользователя
+     */
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    /**
+     * Проверка ранее проверенного токена.
+     *
+     * @return результат проверки
+     */
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(token, user);
+    }
+
+    /**
+     * Проверка нового токена, включая проверку подписи.
+     *
+     * @return результат проверки
+     */
+    @Benchmark
+    public boolean isTokenValidUncached() {
+        return jwtService.isTokenValid(jwtService.generateToken(user), user);
+    }
+}
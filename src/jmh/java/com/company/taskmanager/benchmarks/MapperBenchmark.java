@@ -0,0 +1,110 @@
+package com.company.taskmanager.benchmarks;
+
+import com.company.taskmanager.dtos.CommentDto;
+import com.company.taskmanager.dtos.TaskDto;
+import com.company.taskmanager.models.comment.Comment;
+import com.company.taskmanager.models.task.Task;
+import com.company.taskmanager.models.user.User;
+import com.company.taskmanager.utils.CommentMapper;
+import com.company.taskmanager.utils.CommentMapperImpl;
+import com.company.taskmanager.utils.TaskMapper;
+import com.company.taskmanager.utils.TaskMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки мапперов {@link TaskMapper} и {@link CommentMapper} на задачах
+ * с разным количеством исполнителей и комментариев.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapperBenchmark {
+
+    /**
+     * Количество исполнителей задачи.
+     */
+    @Param({"1", "10", "100"})
+    public int executors;
+
+    /**
+     * Количество комментариев задачи.
+     */
+    @Param({"0", "10", "100"})
+    public int comments;
+
+    private TaskMapper taskMapper;
+    private CommentMapper commentMapper;
+    private Task task;
+    private TaskDto taskDto;
+    private Comment comment;
+    private CommentDto commentDto;
+
+    /**
+     * Подготовка мапперов и тестовых данных.
+     */
+    @Setup
+    public void setUp() {
+        List<User> users = BenchmarkFixtures.users(Math.max(executors, 1));
+        commentMapper = new CommentMapperImpl();
+        taskMapper = new TaskMapperImpl();
+        ReflectionTestUtils.setField(taskMapper, "commentMapper", commentMapper);
+        ReflectionTestUtils.setField(taskMapper, "userService",
+                new StubUserService(users));
+
+        task = BenchmarkFixtures.task(users, executors, comments);
+        taskDto = taskMapper.taskToTaskDto(task);
+        comment = BenchmarkFixtures.comment(task, users.get(0), 1L);
+        commentDto = commentMapper.commentToCommentDto(comment);
+    }
+
+    /**
+     * Преобразование задачи в DTO.
+     *
+     * @return DTO задачи
+     */
+    @Benchmark
+    public TaskDto taskToTaskDto() {
+        return taskMapper.taskToTaskDto(task);
+    }
+
+    /**
+     * Преобразование DTO в задачу, включая поиск пользователей по имени.
+     *
+     * @return задача
+     */
+    @Benchmark
+    public Task taskDtoToTask() {
+        return taskMapper.taskDtoToTask(taskDto);
+    }
+
+    /**
+     * Преобразование комментария в DTO.
+     *
+     * @return DTO комментария
+     */
+    @Benchmark
+    public CommentDto commentToCommentDto() {
+        return commentMapper.commentToCommentDto(comment);
+    }
+
+    /**
+     * Преобразование DTO в комментарий.
+     *
+     * @return комментарий
+     */
+    @Benchmark
+    public Comment commentDtoToComment() {
+        return commentMapper.commentDtoToComment(commentDto);
+    }
+}
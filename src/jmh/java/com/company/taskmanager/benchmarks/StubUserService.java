@@ -0,0 +1,99 @@
+package com.company.taskmanager.benchmarks;
+
+import com.company.taskmanager.models.user.User;
+import com.company.taskmanager.services.user.UserService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Реализация {@link UserService} для бенчмарков: пользователи хранятся
+ * в неизменяемой карте, поэтому измерения не включают обращения к базе
+ * данных и кэшам.
+ */
+class StubUserService implements UserService {
+    private final Map<String, User> usersByUsername;
+
+    /**
+     * Конструктор сервиса-заглушки.
+     *
+     * @param users пользователи, доступные по имени
+     */
+    StubUserService(Iterable<User> users) {
+        this.usersByUsername = StreamSupport
+                .stream(users.spliterator(), false)
+                .collect(Collectors.toUnmodifiableMap(User::getUsername,
+                        Function.identity()));
+    }
+
+    @Override
+    public User getUserById(Long id) {
+        return usersByUsername.values().stream()
+                .filter(user -> user.getId().equals(id))
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Override
+    public User createUser(User user) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public User updateUser(Long id, User user) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public User updateByUsername(String username, User user) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void deleteUser(Long id) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void deleteUserByUsername(String username) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public User saveUser(User user) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public User getUserByUsername(String username) {
+        return usersByUsername.get(username);
+    }
+
+    @Override
+    public User getUserByEmail(String email) {
+        return usersByUsername.values().stream()
+                .filter(user -> email.equals(user.getEmail()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Override
+    public UserDetailsService userDetailsService() {
+        return username -> {
+            User user = usersByUsername.get(username);
+            if (user == null) {
+                throw new UsernameNotFoundException(username);
+            }
+            return user;
+        };
+    }
+
+    @Override
+    public User getCurrentUser() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,20 @@
+package com.company.taskmanager.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Конфигурация асинхронного выполнения задач.
+ * <p>
+ * Методы с аннотацией {@code @Async} выполняются на автоматически
+ * настроенном исполнителе {@code applicationTaskExecutor}. При включенном
+ * режиме виртуальных потоков ({@code spring.threads.virtual.enabled},
+ * переменная окружения {@code VIRTUAL_THREADS}) и запуске на Java 21
+ * этот исполнитель, как и потоки обработки запросов Tomcat, создает
+ * виртуальный поток на каждую задачу.
+ * </p>
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,124 @@
+package com.company.taskmanager.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Конфигурация кэша второго уровня Hibernate.
+ * <p>
+ * Регионы создаются заранее в отдельном для каждого контекста
+ * {@link CacheManager} на основе Caffeine, поэтому их размер и время
+ * жизни задаются свойствами приложения, а Hibernate настроен не создавать
+ * недостающие регионы. Время жизни ограничивает устаревание записей,
+ * измененных в обход Hibernate; изменения через Hibernate, в том числе
+ * массовые обновления версий задач, сбрасывают записи сразу.
+ * </p>
+ * <p>
+ * Регион отметок обновления таблиц не ограничен ни по размеру,
+ * ни по времени: потеря отметки сделала бы устаревшие результаты
+ * запросов в кэше действительными.
+ * </p>
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    /**
+     * Регионы задач и их коллекций.
+     */
+    public static final List<String> TASK_REGIONS =
+            List.of("task", "task.executors", "task.comments");
+
+    /**
+     * Регион пользователей.
+     */
+    public static final String USER_REGION = "user";
+
+    /**
+     * Регион комментариев.
+     */
+    public static final String COMMENT_REGION = "comment";
+
+    /**
+     * Создает менеджер кэшей с регионами сущностей и запросов.
+     *
+     * @param taskMaxSize    максимальное количество записей в регионе задач
+     * @param taskTtl        время жизни задач и их коллекций
+     * @param userMaxSize    максимальное количество пользователей
+     * @param userTtl        время жизни пользователей
+     * @param commentMaxSize максимальное количество комментариев
+     * @param commentTtl     время жизни комментариев
+     * @param queryMaxSize   максимальное количество результатов запросов
+     * @param queryTtl       время жизни результатов запросов
+     * @return менеджер кэшей
+     */
+    @Bean
+    public CacheManager hibernateCacheManager(
+            @Value("${task.cache.max-size}") long taskMaxSize,
+            @Value("${task.cache.ttl}") Duration taskTtl,
+            @Value("${user.cache.max-size}") long userMaxSize,
+            @Value("${user.cache.ttl}") Duration userTtl,
+            @Value("${comment.cache.max-size}") long commentMaxSize,
+            @Value("${comment.cache.ttl}") Duration commentTtl,
+            @Value("${task.cache.query-max-size}") long queryMaxSize,
+            @Value("${task.cache.query-ttl}") Duration queryTtl) {
+        // Собственный провайдер, чтобы несколько контекстов в одном
+        // процессе не делили регионы одного менеджера
+        CacheManager cacheManager = new CaffeineCachingProvider()
+                .getCacheManager();
+        TASK_REGIONS.forEach(region ->
+                createRegion(cacheManager, region, taskMaxSize, taskTtl));
+        createRegion(cacheManager, USER_REGION, userMaxSize, userTtl);
+        createRegion(cacheManager, COMMENT_REGION, commentMaxSize, commentTtl);
+        createRegion(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                queryMaxSize, queryTtl);
+        cacheManager.createCache(
+                RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                new CaffeineConfiguration<>().setStoreByValue(false));
+        return cacheManager;
+    }
+
+    /**
+     * Передает менеджер кэшей фабрике регионов Hibernate.
+     *
+     * @param hibernateCacheManager менеджер кэшей
+     * @return настройка свойств Hibernate
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(
+            CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER,
+                hibernateCacheManager);
+    }
+
+    /**
+     * Закрывает менеджер кэшей только после фабрики сущностей.
+     */
+    @Configuration(proxyBeanMethods = false)
+    static class CacheManagerDependsOn
+            extends EntityManagerFactoryDependsOnPostProcessor {
+
+        CacheManagerDependsOn() {
+            super("hibernateCacheManager");
+        }
+    }
+
+    private static void createRegion(CacheManager cacheManager, String region,
+                                     long maxSize, Duration ttl) {
+        cacheManager.createCache(region, new CaffeineConfiguration<>()
+                .setStoreByValue(false)
+                .setMaximumSize(OptionalLong.of(maxSize))
+                .setExpireAfterWrite(OptionalLong.of(ttl.toNanos())));
+    }
+}
@@ -2,13 +2,15 @@ package com.company.taskmanager.config;
 
 import com.company.taskmanager.exceptions.JwtAuthException;
 import com.company.taskmanager.services.jwt.JwtService;
+import com.company.taskmanager.services.jwt.TokenRevocationService;
+import com.company.taskmanager.services.jwt.VerifiedClaims;
 import com.company.taskmanager.services.user.UserService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
@@ -32,9 +34,12 @@ import java.io.IOException;
  * <p>Если токен отсутствует или недействителен, фильтр передаёт запрос дальше по цепочке,
  * не изменяя контекст безопасности. Если токен валиден, он аутентифицирует пользователя и
  * устанавливает аутентификацию в {@link SecurityContextHolder}.</p>
+ *
+ * <p>В режиме доверия claims ({@code jwt.claims-trusted.enabled}) пользователь
+ * восстанавливается из данных токена без запроса к базе данных, а отзыв токенов
+ * проверяется через {@link TokenRevocationService}.</p>
  */
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     /**
@@ -49,6 +54,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserService userService;
+    private final TokenRevocationService tokenRevocationService;
+    private final boolean claimsTrusted;
+
+    /**
+     * Конструктор фильтра JWT-аутентификации.
+     *
+     * @param jwtService             сервис для работы с JWT-токенами
+     * @param userService            сервис для загрузки данных пользователя
+     * @param tokenRevocationService сервис проверки отзыва токенов
+     * @param claimsTrusted          включен ли режим доверия claims
+     */
+    public JwtAuthenticationFilter(
+            JwtService jwtService,
+            UserService userService,
+            TokenRevocationService tokenRevocationService,
+            @Value("${jwt.claims-trusted.enabled}") boolean claimsTrusted) {
+        this.jwtService = jwtService;
+        this.userService = userService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.claimsTrusted = claimsTrusted;
+    }
 
     /**
      * Фильтрует входящие запросы, проверяя наличие JWT-токена в заголовке Authorization.
@@ -83,18 +109,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        // Обрезаем получаем имя пользователя из токена
-        final String username = jwtService.extractUsername(jwt);
+        // Проверяем подпись один раз и получаем имя пользователя из токена
+        final VerifiedClaims claims = jwtService.verify(jwt);
+        final String username = claims.getSubject();
         if (StringUtils.isNotEmpty(username)
                 && SecurityContextHolder
                 .getContext().getAuthentication() == null) {
 
-            UserDetails userDetails = userService
-                    .userDetailsService()
-                    .loadUserByUsername(username);
+            UserDetails userDetails = loadUserDetails(claims);
 
             // Если токен валиден, то аутентифицируем пользователя
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            if (userDetails != null
+                    && jwtService.isTokenValid(claims, userDetails)) {
                 SecurityContext context = SecurityContextHolder.createEmptyContext();
 
                 UsernamePasswordAuthenticationToken authToken =
@@ -114,4 +140,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Если токен валиден, продолжаем выполнение фильтра
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Загружает данные пользователя для проверенного токена. В режиме доверия
+     * claims пользователь строится из данных токена, если они содержат версию
+     * учетной записи; иначе данные загружаются из базы данных.
+     *
+     * @param claims проверенные данные токена
+     * @return данные пользователя или {@code null}, если токен отозван
+     */
+    private UserDetails loadUserDetails(VerifiedClaims claims) {
+        if (claimsTrusted) {
+            UserDetails principal = jwtService.buildPrincipal(claims);
+            if (principal != null) {
+                return tokenRevocationService.isActive(claims)
+                        ? principal : null;
+            }
+        }
+        return userService
+                .userDetailsService()
+                .loadUserByUsername(claims.getSubject());
+    }
 }
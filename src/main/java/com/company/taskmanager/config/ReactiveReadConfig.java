@@ -0,0 +1,65 @@
+package com.company.taskmanager.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Конфигурация подключения R2DBC для неблокирующего API чтения задач.
+ * <p>
+ * Пул соединений R2DBC создается внутри конфигурации и не регистрируется
+ * как бин {@code ConnectionFactory}: при наличии такого бина Spring Boot
+ * не создает {@code DataSource} и JPA, а запись в приложении выполняется
+ * через JPA. По той же причине автоконфигурация R2DBC отключена
+ * в {@code application.yaml}.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "task.reactive-api.enabled", havingValue = "true")
+public class ReactiveReadConfig implements DisposableBean {
+    private ConnectionPool connectionPool;
+
+    /**
+     * Создает клиент R2DBC поверх пула соединений.
+     *
+     * @param url      адрес базы данных R2DBC
+     * @param username имя пользователя базы данных
+     * @param password пароль пользователя базы данных
+     * @param maxSize  максимальный размер пула соединений
+     * @return клиент R2DBC
+     */
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(
+            @Value("${spring.r2dbc.url}") String url,
+            @Value("${spring.r2dbc.username}") String username,
+            @Value("${spring.r2dbc.password}") String password,
+            @Value("${spring.r2dbc.pool.max-size}") int maxSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url)
+                .mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options))
+                .maxSize(maxSize)
+                .build());
+        return DatabaseClient.create(connectionPool);
+    }
+
+    /**
+     * Закрывает пул соединений при остановке приложения.
+     */
+    @Override
+    public void destroy() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
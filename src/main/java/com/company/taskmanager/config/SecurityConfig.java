@@ -1,6 +1,7 @@
 package com.company.taskmanager.config;
 
-
+import com.company.taskmanager.models.user.Role;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -54,8 +55,17 @@ public class SecurityConfig {
         http
                 .authorizeHttpRequests(
                         authorize -> authorize
+                                // Повторная диспетчеризация потоковых ответов
+                                // и ошибок выполняется после проверки доступа
+                                // исходного запроса
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC,
+                                        DispatcherType.ERROR).permitAll()
                                 .requestMatchers("/v3/**", "/swagger-ui/**").permitAll()
                                 .requestMatchers("/api/auth/**").permitAll()
+                                .requestMatchers("/api/user/stats/rebuild",
+                                        "/api/task/search/reindex",
+                                        "/api/cache/**")
+                                .hasAuthority(Role.ADMIN.name())
                                 .anyRequest().authenticated())
                 .cors(cors -> cors.configurationSource(request -> {
                     var corsConfiguration = new CorsConfiguration();
@@ -0,0 +1,38 @@
+package com.company.taskmanager.config;
+
+import com.company.taskmanager.services.user.cache.CaffeineUserCache;
+import com.company.taskmanager.services.user.cache.SecondLevelUserCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+/**
+ * Конфигурация кэша пользователей.
+ * Создает кэш в памяти процесса и подключает к нему кэш второго уровня,
+ * если бин {@link SecondLevelUserCache} зарегистрирован в контексте.
+ */
+@Configuration
+public class UserCacheConfig {
+
+    /**
+     * Создает бин кэша пользователей.
+     *
+     * @param maxSize     максимальное количество пользователей в кэше
+     * @param ttl         время жизни записи
+     * @param secondLevel поставщик кэша второго уровня
+     * @return кэш пользователей
+     */
+    @Bean
+    @Primary
+    public CaffeineUserCache userCache(
+            @Value("${user.cache.max-size}") long maxSize,
+            @Value("${user.cache.ttl}") Duration ttl,
+            ObjectProvider<SecondLevelUserCache> secondLevel) {
+        return new CaffeineUserCache(maxSize, ttl,
+                secondLevel.getIfAvailable());
+    }
+}
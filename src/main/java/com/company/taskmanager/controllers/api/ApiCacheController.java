@@ -0,0 +1,34 @@
+package com.company.taskmanager.controllers.api;
+
+import com.company.taskmanager.dtos.CacheStatsDto;
+import com.company.taskmanager.services.cache.EntityCacheService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Контроллер, предоставляющий API для наблюдения за кэшами приложения.
+ * Доступен только администраторам.
+ */
+@Tag(name = "Cache", description = "The Cache API")
+@RestController
+@RequestMapping("/api/cache")
+public class ApiCacheController {
+    @Autowired
+    private EntityCacheService entityCacheService;
+
+    /**
+     * Получает статистику кэша второго уровня, кэша запросов
+     * и кэша пользователей.
+     *
+     * @return DTO со статистикой кэшей
+     */
+    @GetMapping("/stats")
+    @Operation(summary = "Get cache statistics")
+    public CacheStatsDto getStats() {
+        return entityCacheService.getStats();
+    }
+}
@@ -0,0 +1,112 @@
+package com.company.taskmanager.controllers.api;
+
+import com.company.taskmanager.dtos.TaskDto;
+import com.company.taskmanager.exceptions.ResourceNotFoundException;
+import com.company.taskmanager.models.user.User;
+import com.company.taskmanager.repositories.task.ReactiveTaskReadRepository;
+import com.company.taskmanager.services.auth.AuthService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Контроллер неблокирующего API чтения задач.
+ * <p>
+ * Данные читаются через R2DBC ({@link ReactiveTaskReadRepository}) и
+ * передаются клиенту потоком NDJSON по мере чтения из базы данных с учетом
+ * обратного давления: запрос не занимает поток обработки и соединение JPA
+ * на время передачи. Изменение задач выполняется через {@link ApiTaskController}.
+ * </p>
+ * <p>
+ * Обработчики не выполняют блокирующих вызовов: текущий пользователь
+ * берется из контекста безопасности, заполненного фильтром аутентификации,
+ * а остальные данные, включая пользователей, читаются через R2DBC.
+ * </p>
+ * <p>
+ * Контроллер включается свойством {@code task.reactive-api.enabled}
+ * (переменная окружения {@code REACTIVE_API}).
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/reactive/task")
+@Tag(name = "Reactive Task API", description = "Неблокирующее чтение задач")
+@ConditionalOnProperty(name = "task.reactive-api.enabled", havingValue = "true")
+public class ApiReactiveTaskController {
+
+    /**
+     * Максимальное количество задач в одном ответе.
+     */
+    public static final int MAX_LIMIT = 1000;
+
+    @Autowired
+    private ReactiveTaskReadRepository reactiveTaskReadRepository;
+    @Autowired
+    private AuthService authService;
+
+    /**
+     * Получает поток задач текущего пользователя.
+     *
+     * @param limit максимальное количество задач (не больше {@link #MAX_LIMIT})
+     * @return поток задач в формате NDJSON
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskDto> getTasks(
+            @RequestParam(defaultValue = "100") int limit) {
+        // Контекст безопасности привязан к потоку запроса, поэтому
+        // пользователь читается до подписки; обращения к базе данных нет
+        User user = authService.getCurrentUser();
+        return reactiveTaskReadRepository.findByAuthor(user.getId(),
+                clamp(limit));
+    }
+
+    /**
+     * Получает поток задач, в которых указанный пользователь является
+     * исполнителем.
+     *
+     * @param username имя исполнителя
+     * @param limit    максимальное количество задач (не больше {@link #MAX_LIMIT})
+     * @return поток задач в формате NDJSON
+     */
+    @GetMapping(value = "/executor/{username}",
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskDto> getTasksByExecutor(
+            @PathVariable String username,
+            @RequestParam(defaultValue = "100") int limit) {
+        return reactiveTaskReadRepository.findUserIdByUsername(username)
+                .switchIfEmpty(Mono.error(
+                        new ResourceNotFoundException("User not found")))
+                .flatMapMany(userId -> reactiveTaskReadRepository
+                        .findByExecutor(userId, clamp(limit)));
+    }
+
+    /**
+     * Получает задачу вместе с комментариями.
+     *
+     * @param id идентификатор задачи
+     * @return задача
+     */
+    @GetMapping("/{id}")
+    public Mono<TaskDto> getTaskById(@PathVariable Long id) {
+        return reactiveTaskReadRepository.findById(id)
+                .switchIfEmpty(Mono.error(
+                        new ResourceNotFoundException("Task not found")));
+    }
+
+    /**
+     * Ограничивает количество задач в ответе.
+     *
+     * @param limit запрошенное количество задач
+     * @return количество задач от 1 до {@link #MAX_LIMIT}
+     */
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
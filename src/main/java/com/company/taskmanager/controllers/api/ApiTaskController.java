@@ -1,24 +1,57 @@
 package com.company.taskmanager.controllers.api;
 
+import com.company.taskmanager.dtos.BulkResultDto;
+import com.company.taskmanager.dtos.CommentPageDto;
 import com.company.taskmanager.dtos.TaskDto;
+import com.company.taskmanager.dtos.TaskFeedDto;
+import com.company.taskmanager.dtos.TaskSearchPageDto;
+import com.company.taskmanager.exceptions.BadRequestException;
 import com.company.taskmanager.exceptions.ResourceNotFoundException;
 import com.company.taskmanager.models.task.Status;
 import com.company.taskmanager.models.task.Task;
 import com.company.taskmanager.models.user.User;
+import com.company.taskmanager.repositories.comment.CommentView;
+import com.company.taskmanager.repositories.task.TaskListView;
+import com.company.taskmanager.repositories.task.TaskSearchView;
+import com.company.taskmanager.requests.BulkTaskRequest;
+import com.company.taskmanager.requests.TaskFilterRequest;
+import com.company.taskmanager.requests.TaskSearchRequest;
 import com.company.taskmanager.services.auth.AuthService;
+import com.company.taskmanager.services.comment.CommentCursor;
+import com.company.taskmanager.services.comment.CommentService;
+import com.company.taskmanager.services.task.TaskCursor;
+import com.company.taskmanager.services.task.TaskSearchCursor;
 import com.company.taskmanager.services.task.TaskService;
 import com.company.taskmanager.services.user.UserService;
+import com.company.taskmanager.utils.CommentMapper;
+import com.company.taskmanager.utils.TaskExportFormat;
+import com.company.taskmanager.utils.TaskExportWriter;
 import com.company.taskmanager.utils.TaskMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Контроллер, предоставляющий API для управления задачами.
@@ -26,11 +59,37 @@ import java.util.List;
  * Этот контроллер предоставляет методы для создания, получения, обновления
  * и удаления задач, а также для управления исполнителями и статусами задач.
  * </p>
+ * <p>
+ * Списки задач строятся из проекций {@link TaskListView} без загрузки
+ * сущностей. Комментарии добавляются в список только по запросу
+ * ({@code includeComments=true}) и загружаются одним запросом на страницу.
+ * </p>
+ * <p>
+ * Ленты задач ({@code /feed}) используют постраничный просмотр по курсору:
+ * стоимость запроса не зависит от глубины страницы.
+ * </p>
+ * <p>
+ * Выгрузка задач ({@code /export}) передается клиенту потоком по мере
+ * чтения из базы данных, поэтому расход памяти не зависит от количества
+ * задач.
+ * </p>
+ * <p>
+ * Массовое создание задач ({@code /bulk}) читает тело запроса потоком
+ * (JSON-массив или NDJSON) и сохраняет задачи пакетами JDBC.
+ * Массовая смена статуса и исполнителей ({@code /bulk/status},
+ * {@code /bulk/executor}) изменяет набор задач запросами по списку
+ * идентификаторов без загрузки каждой задачи.
+ * </p>
  */
 @Tag(name = "Task", description = "The Task API")
 @RestController
 @RequestMapping("/api/task")
 public class ApiTaskController {
+    /**
+     * Максимальный размер страницы ленты задач.
+     */
+    private static final int MAX_FEED_SIZE = 100;
+
     @Autowired
     private TaskService taskService;
     @Autowired
@@ -39,24 +98,96 @@ public class ApiTaskController {
     private UserService userService;
     @Autowired
     private AuthService authService;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private CommentMapper commentMapper;
+    @Autowired
+    private ObjectMapper objectMapper;
 
     /**
-     * Получает список задач для текущего пользователя.
+     * Получает список задач с фильтрацией по статусу, приоритету, автору,
+     * исполнителю и датам создания и обновления. Если не указаны ни автор,
+     * ни исполнитель, возвращаются задачи текущего пользователя.
      *
-     * @param pageable объект, содержащий информацию
-     *                 о требуемой странице и размере страницы.
+     * @param filter          параметры фильтрации
+     * @param includeComments добавлять ли комментарии к задачам
+     * @param pageable        объект, содержащий информацию
+     *                        о требуемой странице, ее размере и сортировке.
      * @return список задач в виде DTO
      */
     @GetMapping
     public Page<TaskDto> getTasks(
-            @RequestParam(required = false) String username,
-            @RequestParam(required = false) Status status,
+            @ModelAttribute TaskFilterRequest filter,
+            @RequestParam(defaultValue = "false") boolean includeComments,
             Pageable pageable) {
+        if (filter.getUsername() == null && filter.getExecutor() == null) {
+            filter.setUsername(authService.getCurrentUser().getUsername());
+        }
+        return toTaskDtos(taskService.getTaskViews(filter, pageable),
+                includeComments);
+    }
+
+    /**
+     * Получает ленту задач текущего пользователя по курсору.
+     *
+     * @param cursor курсор, полученный с предыдущей страницы,
+     *               или пусто для первой страницы
+     * @param size   размер страницы
+     * @param order  поле упорядочивания ленты (CREATED или UPDATED)
+     * @return страница ленты задач с курсором следующей страницы
+     */
+    @GetMapping("/feed")
+    public TaskFeedDto getTaskFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "CREATED") TaskCursor.Order order) {
         User user = authService.getCurrentUser();
-        List<TaskDto> tasks = taskService.getTasksByUser(user, pageable)
-                .stream().map(m ->
-                        taskMapper.taskToTaskDto(m)).toList();
-        return new PageImpl<>(tasks);
+        int limit = Math.max(1, Math.min(size, MAX_FEED_SIZE));
+        return toTaskFeed(taskService.getTaskFeedByUser(user,
+                toCursor(cursor, order), limit + 1), limit, order);
+    }
+
+    /**
+     * Ищет задачи по тексту заголовка, описания и комментариев
+     * в порядке убывания релевантности с пагинацией по курсору.
+     *
+     * @param request параметры поиска
+     * @param cursor  курсор, полученный с предыдущей страницы,
+     *                или пусто для первой страницы
+     * @param size    размер страницы
+     * @return страница найденных задач с курсором следующей страницы
+     */
+    @GetMapping("/search")
+    public TaskSearchPageDto searchTasks(
+            @ModelAttribute TaskSearchRequest request,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        int limit = Math.max(1, Math.min(size, MAX_FEED_SIZE));
+        List<TaskSearchView> views = taskService.searchTasks(request,
+                cursor == null || cursor.isEmpty()
+                        ? TaskSearchCursor.first() : TaskSearchCursor.decode(cursor),
+                limit + 1);
+        List<TaskSearchView> page = views.subList(0, Math.min(limit, views.size()));
+        String nextCursor = null;
+        if (views.size() > limit) {
+            TaskSearchView last = page.get(page.size() - 1);
+            nextCursor = new TaskSearchCursor(last.getRank(), last.getId()).encode();
+        }
+        return new TaskSearchPageDto(page.stream()
+                .map(taskMapper::taskSearchViewToTaskSearchHitDto).toList(),
+                nextCursor);
+    }
+
+    /**
+     * Перестраивает поисковый индекс задач. Доступно только
+     * администраторам.
+     *
+     * @return количество проиндексированных задач
+     */
+    @PostMapping("/search/reindex")
+    public long rebuildSearchIndex() {
+        return taskService.rebuildSearchIndex();
     }
 
     /**
@@ -73,52 +204,205 @@ public class ApiTaskController {
         return taskMapper.taskToTaskDto(taskService.createTask(task));
     }
 
+    /**
+     * Создает задачи текущего пользователя из JSON-массива или потока NDJSON.
+     * Все задачи создаются в одной транзакции: при ошибке в любой из них
+     * не создается ни одна.
+     *
+     * @param body тело запроса
+     * @return количество и идентификаторы созданных задач
+     * @throws IOException         если чтение тела запроса не удалось
+     * @throws BadRequestException если тело запроса некорректно или
+     *                             исполнитель не найден
+     */
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_NDJSON_VALUE})
+    public BulkResultDto createTasks(InputStream body) throws IOException {
+        User user = authService.getCurrentUser();
+        try (MappingIterator<TaskDto> dtos = objectMapper
+                .readerFor(TaskDto.class).readValues(body)) {
+            Iterator<Task> tasks = new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    try {
+                        return dtos.hasNext();
+                    } catch (RuntimeException e) {
+                        throw invalidPayload(e);
+                    }
+                }
+
+                @Override
+                public Task next() {
+                    try {
+                        return toNewTask(dtos.next());
+                    } catch (RuntimeException e) {
+                        throw invalidPayload(e);
+                    }
+                }
+            };
+            List<Long> ids = taskService.createTasks(user, tasks);
+            return new BulkResultDto(ids.size(), ids);
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("Invalid task payload");
+        }
+    }
+
     /**
      * Получает задачу по её идентификатору.
      *
-     * @param id идентификатор задачи
+     * @param id       идентификатор задачи
+     * @param comments количество первых комментариев, добавляемых
+     *                 к задаче, от 0 до 100; если не указано, добавляются
+     *                 все комментарии
      * @return задача в виде DTO
+     * @throws BadRequestException если количество комментариев
+     *                             вне допустимого диапазона
      */
     @GetMapping("/{id}")
-    public TaskDto getTaskById(@PathVariable Long id) {
-        return taskMapper.taskToTaskDto(taskService.getTaskById(id));
+    public TaskDto getTaskById(@PathVariable Long id,
+                               @RequestParam(required = false) Integer comments) {
+        if (comments != null && (comments < 0 || comments > MAX_FEED_SIZE)) {
+            // Урезанный список выглядел бы для клиента как полный
+            throw new BadRequestException(
+                    "comments must be between 0 and " + MAX_FEED_SIZE);
+        }
+        Task task = taskService.getTaskById(id);
+        if (comments == null) {
+            return taskMapper.taskToTaskDto(task);
+        }
+        TaskDto dto = taskMapper.taskToTaskDtoWithoutComments(task);
+        if (comments > 0) {
+            dto.setComments(commentService.getCommentPage(id,
+                            CommentCursor.first(), comments).stream()
+                    .map(commentMapper::commentViewToCommentDto).toList());
+        }
+        return dto;
+    }
+
+    /**
+     * Получает комментарии задачи от старых к новым по курсору.
+     *
+     * @param id     идентификатор задачи
+     * @param cursor курсор, полученный с предыдущей страницы,
+     *               или пусто для первой страницы
+     * @param size   размер страницы
+     * @return страница комментариев с курсором следующей страницы
+     * @throws ResourceNotFoundException если задача не найдена
+     */
+    @GetMapping("/{id}/comments")
+    public CommentPageDto getComments(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        int limit = Math.max(1, Math.min(size, MAX_FEED_SIZE));
+        List<CommentView> views = commentService.getCommentPage(id,
+                cursor == null || cursor.isEmpty()
+                        ? CommentCursor.first() : CommentCursor.decode(cursor),
+                limit + 1);
+        List<CommentView> page = views.subList(0, Math.min(limit, views.size()));
+        String nextCursor = null;
+        if (views.size() > limit) {
+            CommentView last = page.get(page.size() - 1);
+            nextCursor = new CommentCursor(last.getCreatedAt().toInstant(),
+                    last.getId()).encode();
+        }
+        return new CommentPageDto(page.stream()
+                .map(commentMapper::commentViewToCommentDto).toList(), nextCursor);
     }
 
     /**
      * Получает список задач, созданных пользователем с указанным именем.
      *
-     * @param username имя пользователя
-     * @param pageable объект, содержащий информацию
-     *                 о требуемой странице и размере страницы.
+     * @param username        имя пользователя
+     * @param includeComments добавлять ли комментарии к задачам
+     * @param pageable        объект, содержащий информацию
+     *                        о требуемой странице и размере страницы.
      * @return список задач в виде DTO
      */
     @GetMapping("/username/{username}")
-    public Page<TaskDto> getTaskByUsername(@PathVariable String username,
-                                           Pageable pageable) {
-        List<TaskDto> tasks = taskService
-                .getTasksByUsername(username, pageable)
-                .stream()
-                .map(taskMapper::taskToTaskDto).toList();
-        return new PageImpl<>(tasks);
+    public Page<TaskDto> getTaskByUsername(
+            @PathVariable String username,
+            @RequestParam(defaultValue = "false") boolean includeComments,
+            Pageable pageable) {
+        return toTaskDtos(taskService
+                .getTaskViewsByUsername(username, pageable), includeComments);
     }
 
     /**
      * Получает список задач, в которых указанный пользователь
      * является исполнителем.
      *
-     * @param username имя пользователя
-     * @param pageable объект, содержащий информацию
-     *                 о требуемой странице и размере страницы.
+     * @param username        имя пользователя
+     * @param includeComments добавлять ли комментарии к задачам
+     * @param pageable        объект, содержащий информацию
+     *                        о требуемой странице и размере страницы.
      * @return список задач в виде DTO
      */
     @GetMapping("/executor/{username}")
-    public Page<TaskDto> getTaskByExecutor(@PathVariable String username,
-                                           Pageable pageable) {
-        List<TaskDto> tasks = taskService
-                .getTasksByExecutor(username, pageable)
-                .stream()
-                .map(taskMapper::taskToTaskDto).toList();
-        return new PageImpl<>(tasks);
+    public Page<TaskDto> getTaskByExecutor(
+            @PathVariable String username,
+            @RequestParam(defaultValue = "false") boolean includeComments,
+            Pageable pageable) {
+        return toTaskDtos(taskService
+                .getTaskViewsByExecutor(username, pageable), includeComments);
+    }
+
+    /**
+     * Получает ленту задач, в которых указанный пользователь является
+     * исполнителем, по курсору.
+     *
+     * @param username имя пользователя
+     * @param cursor   курсор, полученный с предыдущей страницы,
+     *                 или пусто для первой страницы
+     * @param size     размер страницы
+     * @param order    поле упорядочивания ленты (CREATED или UPDATED)
+     * @return страница ленты задач с курсором следующей страницы
+     */
+    @GetMapping("/executor/{username}/feed")
+    public TaskFeedDto getTaskFeedByExecutor(
+            @PathVariable String username,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "CREATED") TaskCursor.Order order) {
+        int limit = Math.max(1, Math.min(size, MAX_FEED_SIZE));
+        return toTaskFeed(taskService.getTaskFeedByExecutor(username,
+                toCursor(cursor, order), limit + 1), limit, order);
+    }
+
+    /**
+     * Выгружает все задачи текущего пользователя вместе с исполнителями
+     * и комментариями.
+     *
+     * @param format формат выгрузки (NDJSON или CSV)
+     * @return поток задач в указанном формате
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(defaultValue = "NDJSON") TaskExportFormat format) {
+        User user = authService.getCurrentUser();
+        return toExport(format, "tasks-" + user.getUsername(),
+                action -> taskService.forEachTaskByUser(user, action));
+    }
+
+    /**
+     * Выгружает все задачи, в которых указанный пользователь является
+     * исполнителем, вместе с исполнителями и комментариями.
+     *
+     * @param username имя пользователя
+     * @param format   формат выгрузки (NDJSON или CSV)
+     * @return поток задач в указанном формате
+     * @throws ResourceNotFoundException если пользователь не найден
+     */
+    @GetMapping("/executor/{username}/export")
+    public ResponseEntity<StreamingResponseBody> exportTasksByExecutor(
+            @PathVariable String username,
+            @RequestParam(defaultValue = "NDJSON") TaskExportFormat format) {
+        User executor = userService.getUserByUsername(username);
+        if (executor == null) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        return toExport(format, "tasks-executor-" + username,
+                action -> taskService.forEachTaskByExecutor(executor, action));
     }
 
     /**
@@ -132,30 +416,24 @@ public class ApiTaskController {
     public TaskDto updateTask(@PathVariable Long id,
                               @RequestBody TaskDto dto) {
         User user = authService.getCurrentUser();
-        Task existingTask = taskService.getTaskById(id);
-        if (existingTask.getAuthor().equals(user)) {
-            taskService.updateTask(id, taskMapper.taskDtoToTask(dto));
-        }
-        return getTaskById(id);
+        return taskService.updateTask(user, id, taskMapper.taskDtoToTask(dto));
     }
 
     /**
      * Обновляет статус задачи.
      *
-     * @param id     идентификатор задачи
-     * @param status новый статус задачи
+     * @param id      идентификатор задачи
+     * @param status  новый статус задачи
+     * @param version ожидаемая версия задачи; если указана и не совпадает
+     *                с текущей, возвращается 409 CONFLICT
      * @return обновленная задача в виде DTO
      */
     @PutMapping("/{id}/status/{status}")
     public TaskDto updateStatus(@PathVariable Long id,
-                                @PathVariable String status) {
+                                @PathVariable Status status,
+                                @RequestParam(required = false) Long version) {
         User user = authService.getCurrentUser();
-        Task existingTask = taskService.getTaskById(id);
-        if (existingTask.getExecutors().contains(user)) {
-            existingTask.setStatus(Status.valueOf(status));
-            taskService.updateTask(id, existingTask);
-        }
-        return getTaskById(id);
+        return taskService.updateStatus(user, id, status, version);
     }
 
     /**
@@ -170,14 +448,8 @@ public class ApiTaskController {
     public TaskDto addExecutorByUsername(@PathVariable Long id,
                                          @PathVariable String username) {
         User user = authService.getCurrentUser();
-        Task task = taskService.getTaskById(id);
-        User executor = userService.getUserByUsername(username);
-        if (task.getAuthor().equals(user) && executor != null) {
-            task.addExecutor(executor);
-            return taskMapper
-                    .taskToTaskDto(taskService.updateTask(id, task));
-        }
-        throw new ResourceNotFoundException("User not found");
+        return taskService.addExecutor(user, id,
+                userService.getUserByUsername(username));
     }
 
     /**
@@ -192,14 +464,64 @@ public class ApiTaskController {
     public TaskDto deleteExecutorByUsername(@PathVariable Long id,
                                             @PathVariable String username) {
         User user = authService.getCurrentUser();
-        Task task = taskService.getTaskById(id);
-        User executor = userService.getUserByUsername(username);
-        if (task.getAuthor().equals(user) && executor != null) {
-            task.deleteExecutor(executor);
-            return taskMapper
-                    .taskToTaskDto(taskService.updateTask(id, task));
-        }
-        throw new ResourceNotFoundException("User not found");
+        return taskService.deleteExecutor(user, id,
+                userService.getUserByUsername(username));
+    }
+
+    /**
+     * Меняет статус задач, в которых текущий пользователь является
+     * исполнителем. Остальные задачи пропускаются.
+     *
+     * @param status  новый статус задач
+     * @param request идентификаторы и ожидаемые версии задач
+     * @return количество и идентификаторы задач, к которым применено
+     * изменение
+     */
+    @PutMapping("/bulk/status/{status}")
+    public BulkResultDto updateStatuses(@PathVariable Status status,
+                                        @RequestBody BulkTaskRequest request) {
+        User user = authService.getCurrentUser();
+        List<Long> ids = taskService.updateStatuses(user, request.getIds(),
+                request.getVersions(), status);
+        return new BulkResultDto(ids.size(), ids);
+    }
+
+    /**
+     * Назначает пользователя исполнителем задач текущего пользователя.
+     * Задачи других авторов пропускаются.
+     *
+     * @param username имя пользователя, который будет добавлен как исполнитель
+     * @param request  идентификаторы и ожидаемые версии задач
+     * @return количество и идентификаторы задач, к которым применено
+     * изменение
+     * @throws ResourceNotFoundException если пользователь не найден
+     */
+    @PutMapping("/bulk/executor/{username}")
+    public BulkResultDto addExecutors(@PathVariable String username,
+                                      @RequestBody BulkTaskRequest request) {
+        User user = authService.getCurrentUser();
+        List<Long> ids = taskService.addExecutor(user, request.getIds(),
+                request.getVersions(), getExecutor(username));
+        return new BulkResultDto(ids.size(), ids);
+    }
+
+    /**
+     * Снимает пользователя с исполнения задач текущего пользователя.
+     * Задачи других авторов пропускаются.
+     *
+     * @param username имя пользователя, который будет удален из исполнителей
+     * @param request  идентификаторы и ожидаемые версии задач
+     * @return количество и идентификаторы задач, к которым применено
+     * изменение
+     * @throws ResourceNotFoundException если пользователь не найден
+     */
+    @DeleteMapping("/bulk/executor/{username}")
+    public BulkResultDto deleteExecutors(@PathVariable String username,
+                                         @RequestBody BulkTaskRequest request) {
+        User user = authService.getCurrentUser();
+        List<Long> ids = taskService.deleteExecutor(user, request.getIds(),
+                request.getVersions(), getExecutor(username));
+        return new BulkResultDto(ids.size(), ids);
     }
 
     /**
@@ -211,4 +533,140 @@ public class ApiTaskController {
     public void deleteTask(@PathVariable Long id) {
         taskService.deleteTask(id);
     }
+
+    /**
+     * Получает пользователя-исполнителя по имени.
+     *
+     * @param username имя пользователя
+     * @return пользователь
+     * @throws ResourceNotFoundException если пользователь не найден
+     */
+    private User getExecutor(String username) {
+        User executor = userService.getUserByUsername(username);
+        if (executor == null) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        return executor;
+    }
+
+    /**
+     * Преобразует DTO в новую задачу, проверяя, что все исполнители
+     * существуют.
+     *
+     * @param dto данные задачи
+     * @return задача
+     * @throws BadRequestException если исполнитель не найден
+     */
+    private Task toNewTask(TaskDto dto) {
+        Task task = taskMapper.taskDtoToTask(dto);
+        if (task.getExecutors() != null && task.getExecutors().contains(null)) {
+            String missing = dto.getExecutors().stream()
+                    .filter(username -> userService.getUserByUsername(username) == null)
+                    .findFirst()
+                    .orElse(null);
+            throw new BadRequestException("Executor not found: " + missing);
+        }
+        return task;
+    }
+
+    /**
+     * Преобразует ошибку разбора тела запроса в {@link BadRequestException};
+     * остальные ошибки возвращаются без изменений.
+     *
+     * @param e ошибка при чтении очередной задачи
+     * @return исключение для передачи клиенту
+     */
+    private static RuntimeException invalidPayload(RuntimeException e) {
+        if (e.getCause() instanceof JsonProcessingException) {
+            return new BadRequestException("Invalid task payload");
+        }
+        return e;
+    }
+
+    /**
+     * Формирует потоковый ответ выгрузки задач.
+     *
+     * @param format   формат выгрузки
+     * @param fileName имя файла без расширения
+     * @param source   источник задач, передающий каждую задачу обработчику
+     * @return потоковый ответ
+     */
+    private ResponseEntity<StreamingResponseBody> toExport(
+            TaskExportFormat format, String fileName,
+            Consumer<Consumer<Task>> source) {
+        StreamingResponseBody body = output -> {
+            TaskExportWriter writer =
+                    new TaskExportWriter(objectMapper, format, output);
+            source.accept(task -> writer.write(taskMapper.taskToTaskDto(task)));
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition
+                        .attachment()
+                        .filename(fileName + "." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    /**
+     * Преобразует страницу проекций задач в страницу DTO, при необходимости
+     * загружая комментарии всех задач страницы одним запросом.
+     *
+     * @param views           страница проекций задач
+     * @param includeComments добавлять ли комментарии к задачам
+     * @return страница задач в виде DTO
+     */
+    private Page<TaskDto> toTaskDtos(Page<TaskListView> views,
+                                     boolean includeComments) {
+        Page<TaskDto> tasks = views.map(taskMapper::taskListViewToTaskDto);
+        if (includeComments && tasks.hasContent()) {
+            Map<Long, TaskDto> tasksById = tasks.stream()
+                    .collect(Collectors.toMap(TaskDto::getId,
+                            Function.identity()));
+            commentService.getCommentViewsByTaskIds(tasksById.keySet())
+                    .forEach(comment -> tasksById.get(comment.getTaskId())
+                            .getComments()
+                            .add(commentMapper.commentViewToCommentDto(comment)));
+        }
+        return tasks;
+    }
+
+    /**
+     * Декодирует курсор ленты или возвращает курсор первой страницы.
+     *
+     * @param cursor курсор, полученный от клиента
+     * @param order  поле упорядочивания ленты
+     * @return курсор
+     */
+    private TaskCursor toCursor(String cursor, TaskCursor.Order order) {
+        return cursor == null || cursor.isEmpty()
+                ? TaskCursor.first(order)
+                : TaskCursor.decode(cursor, order);
+    }
+
+    /**
+     * Формирует страницу ленты. Запрос выбирает на одну задачу больше
+     * размера страницы, чтобы определить наличие следующей страницы.
+     *
+     * @param views проекции задач (не более {@code limit + 1})
+     * @param limit размер страницы
+     * @param order поле упорядочивания ленты
+     * @return страница ленты задач
+     */
+    private TaskFeedDto toTaskFeed(List<TaskListView> views, int limit,
+                                   TaskCursor.Order order) {
+        List<TaskListView> page = views.subList(0, Math.min(limit, views.size()));
+        String nextCursor = null;
+        if (views.size() > limit) {
+            TaskListView last = page.get(page.size() - 1);
+            Date timestamp = order == TaskCursor.Order.UPDATED
+                    ? last.getUpdatedAt() : last.getCreatedAt();
+            nextCursor = new TaskCursor(order, timestamp.toInstant(),
+                    last.getId()).encode();
+        }
+        return new TaskFeedDto(page.stream()
+                .map(taskMapper::taskListViewToTaskDto).toList(), nextCursor);
+    }
 }
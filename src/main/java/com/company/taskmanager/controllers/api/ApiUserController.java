@@ -1,7 +1,9 @@
 package com.company.taskmanager.controllers.api;
 
+import com.company.taskmanager.dtos.TaskStatsDto;
 import com.company.taskmanager.dtos.UserDto;
-import com.company.taskmanager.models.task.Task;
+import com.company.taskmanager.dtos.UserProfileDto;
+import com.company.taskmanager.exceptions.ResourceNotFoundException;
 import com.company.taskmanager.models.user.User;
 import com.company.taskmanager.services.auth.AuthService;
 import com.company.taskmanager.services.task.TaskService;
@@ -11,7 +13,6 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -40,17 +41,61 @@ public class ApiUserController {
     private AuthService authService;
 
     /**
-     * Получает информацию о текущем пользователе.
+     * Получает профиль текущего пользователя.
+     * <p>
+     * Профиль содержит только сводные счетчики задач, вычисляемые
+     * агрегирующими запросами. Списки задач запрашиваются отдельно
+     * постранично.
+     * </p>
      *
-     * @return DTO с информацией о текущем пользователе
+     * @return DTO с профилем текущего пользователя
      */
     @GetMapping()
-    @Operation(summary = "Get a current user information")
-    public UserDto getUser() {
+    @Operation(summary = "Get a current user profile")
+    public UserProfileDto getUser() {
         User user = authService.getCurrentUser();
-        user.setTasks(taskService
-                .getTasksByUser(user, Pageable.unpaged()).getContent());
-        return userMapper.userToUserDto(user);
+        return userMapper.userToUserProfileDto(user,
+                taskService.getTaskStats(user));
+    }
+
+    /**
+     * Получает счетчики задач текущего пользователя по статусам
+     * и приоритетам.
+     *
+     * @return DTO со счетчиками задач
+     */
+    @GetMapping("/stats")
+    @Operation(summary = "Get task counters of a current user")
+    public TaskStatsDto getStats() {
+        return taskService.getTaskStats(authService.getCurrentUser());
+    }
+
+    /**
+     * Получает счетчики задач пользователя по статусам и приоритетам.
+     *
+     * @param username имя пользователя
+     * @return DTO со счетчиками задач
+     */
+    @GetMapping("/{username}/stats")
+    @Operation(summary = "Get task counters of a user")
+    public TaskStatsDto getStats(@PathVariable String username) {
+        User user = userService.getUserByUsername(username);
+        if (user == null) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        return taskService.getTaskStats(user);
+    }
+
+    /**
+     * Пересчитывает статистику задач всех пользователей. Доступно
+     * только администраторам.
+     *
+     * @return количество строк статистики после пересчета
+     */
+    @PostMapping("/stats/rebuild")
+    @Operation(summary = "Rebuild task counters of all users")
+    public long rebuildStats() {
+        return taskService.rebuildTaskStats();
     }
 
     /**
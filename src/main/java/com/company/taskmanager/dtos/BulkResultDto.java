@@ -0,0 +1,26 @@
+package com.company.taskmanager.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) для результата массовой операции над задачами.
+ * Содержит количество обработанных задач и их идентификаторы.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO для результата массовой операции над задачами")
+public class BulkResultDto {
+
+    @Schema(description = "Количество обработанных задач", example = "2")
+    private int count;
+
+    @Schema(description = "Идентификаторы обработанных задач", example = "[101, 102]")
+    private List<Long> ids = new ArrayList<>();
+}
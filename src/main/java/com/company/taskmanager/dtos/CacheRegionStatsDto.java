@@ -0,0 +1,40 @@
+package com.company.taskmanager.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO (Data Transfer Object) для статистики региона кэша второго уровня.
+ * Счетчики обращений отсутствуют, если статистика Hibernate выключена.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO для статистики региона кэша второго уровня")
+public class CacheRegionStatsDto {
+
+    @Schema(description = "Имя региона", example = "task")
+    private String region;
+
+    @Schema(description = "Количество чтений, обслуженных кэшем; "
+            + "отсутствует, если статистика Hibernate выключена", example = "940")
+    private Long hitCount;
+
+    @Schema(description = "Количество чтений, не найденных в кэше; "
+            + "отсутствует, если статистика Hibernate выключена", example = "60")
+    private Long missCount;
+
+    @Schema(description = "Количество записей, помещенных в кэш; "
+            + "отсутствует, если статистика Hibernate выключена", example = "75")
+    private Long putCount;
+
+    @Schema(description = "Текущее количество записей в регионе", example = "58")
+    private long size;
+
+    @Schema(description = "Доля чтений, обслуженных кэшем; отсутствует, "
+            + "если чтений не было или статистика Hibernate выключена",
+            example = "0.94")
+    private Double hitRate;
+}
@@ -0,0 +1,31 @@
+package com.company.taskmanager.dtos;
+
+import com.company.taskmanager.services.user.cache.UserCacheStats;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) для статистики кэшей приложения.
+ * Содержит статистику регионов кэша второго уровня Hibernate,
+ * кэша запросов и кэша пользователей.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO для статистики кэшей")
+public class CacheStatsDto {
+
+    @Schema(description = "Статистика регионов сущностей и коллекций")
+    private List<CacheRegionStatsDto> regions = new ArrayList<>();
+
+    @Schema(description = "Статистика кэша запросов")
+    private CacheRegionStatsDto queries;
+
+    @Schema(description = "Статистика кэша пользователей для аутентификации")
+    private UserCacheStats users;
+}
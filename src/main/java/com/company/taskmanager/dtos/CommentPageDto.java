@@ -0,0 +1,27 @@
+package com.company.taskmanager.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) для страницы комментариев задачи.
+ * Содержит комментарии страницы и курсор для получения следующей страницы.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO для страницы комментариев задачи")
+public class CommentPageDto {
+
+    @Schema(description = "Комментарии страницы")
+    private List<CommentDto> comments = new ArrayList<>();
+
+    @Schema(description = "Курсор следующей страницы или null, " +
+            "если страница последняя", example = "MTcyNDAwMDAwMDowOjEy")
+    private String nextCursor;
+}
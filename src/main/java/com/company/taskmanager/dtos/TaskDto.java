@@ -36,6 +36,10 @@ public class TaskDto {
     @Schema(description = "Приоритет задачи", example = "HIGH")
     private Priority priority;
 
+    @Schema(description = "Версия задачи для оптимистической блокировки",
+            example = "3")
+    private Long version;
+
     @Schema(description = "Имя автора задачи (username)", example = "Nikolay")
     private String author;
 
@@ -0,0 +1,27 @@
+package com.company.taskmanager.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) для страницы ленты задач.
+ * Содержит задачи страницы и курсор для получения следующей страницы.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO для страницы ленты задач")
+public class TaskFeedDto {
+
+    @Schema(description = "Задачи страницы")
+    private List<TaskDto> tasks = new ArrayList<>();
+
+    @Schema(description = "Курсор следующей страницы или null, " +
+            "если страница последняя", example = "Q1JFQVRFRDoxNzI0MDAwMDAwOjA6MTI")
+    private String nextCursor;
+}
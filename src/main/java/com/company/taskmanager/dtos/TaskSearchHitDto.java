@@ -0,0 +1,43 @@
+package com.company.taskmanager.dtos;
+
+import com.company.taskmanager.models.task.Priority;
+import com.company.taskmanager.models.task.Status;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * DTO (Data Transfer Object) для задачи, найденной полнотекстовым поиском.
+ * Содержит основные поля задачи, релевантность и фрагменты текста
+ * с выделенными совпадениями.
+ */
+@Data
+@Schema(description = "DTO для результата поиска задач")
+public class TaskSearchHitDto {
+
+    @Schema(description = "Уникальный идентификатор задачи", example = "1")
+    private Long id;
+
+    @Schema(description = "Заголовок задачи", example = "Fix leakage")
+    private String title;
+
+    @Schema(description = "Статус задачи", example = "IN_PROCESS")
+    private Status status;
+
+    @Schema(description = "Приоритет задачи", example = "CRITICAL")
+    private Priority priority;
+
+    @Schema(description = "Имя автора задачи", example = "Nikolay")
+    private String author;
+
+    @Schema(description = "Релевантность задачи запросу", example = "0.6079271")
+    private Float rank;
+
+    @Schema(description = "Фрагмент заголовка и описания, совпадения выделены тегом <b>",
+            example = "Fix <b>leakage</b> Leak detected in the bathroom")
+    private String snippet;
+
+    @Schema(description = "Фрагмент наиболее релевантного комментария " +
+            "или null, если совпадений в комментариях нет",
+            example = "Plumber will fix the <b>leakage</b> tomorrow")
+    private String commentSnippet;
+}
@@ -0,0 +1,28 @@
+package com.company.taskmanager.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) для страницы результатов поиска задач.
+ * Содержит найденные задачи страницы и курсор для получения следующей
+ * страницы.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO для страницы результатов поиска задач")
+public class TaskSearchPageDto {
+
+    @Schema(description = "Найденные задачи страницы")
+    private List<TaskSearchHitDto> hits = new ArrayList<>();
+
+    @Schema(description = "Курсор следующей страницы или null, " +
+            "если страница последняя", example = "MTA1NTI4NjY4ODoxMg")
+    private String nextCursor;
+}
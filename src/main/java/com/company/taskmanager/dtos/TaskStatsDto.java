@@ -0,0 +1,50 @@
+package com.company.taskmanager.dtos;
+
+import com.company.taskmanager.models.task.Priority;
+import com.company.taskmanager.models.task.Status;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * DTO (Data Transfer Object) для сводных счетчиков задач пользователя.
+ * Содержит количество созданных и назначенных пользователю задач,
+ * в том числе в разрезе статусов и приоритетов.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO для счетчиков задач пользователя")
+public class TaskStatsDto {
+
+    @Schema(description = "Количество задач, созданных пользователем", example = "12")
+    private long authored;
+
+    @Schema(description = "Количество задач, в которых пользователь является исполнителем",
+            example = "5")
+    private long assigned;
+
+    @Schema(description = "Количество созданных задач по статусам; "
+            + "задачи без статуса учитываются только в общем количестве",
+            example = "{\"NOT_LAUNCH\": 4, \"IN_PROCESS\": 6, \"DONE\": 2}")
+    private Map<Status, Long> authoredByStatus = new EnumMap<>(Status.class);
+
+    @Schema(description = "Количество назначенных задач по статусам; "
+            + "задачи без статуса учитываются только в общем количестве",
+            example = "{\"NOT_LAUNCH\": 1, \"IN_PROCESS\": 3, \"DONE\": 1}")
+    private Map<Status, Long> assignedByStatus = new EnumMap<>(Status.class);
+
+    @Schema(description = "Количество созданных задач по приоритетам; "
+            + "задачи без приоритета учитываются только в общем количестве",
+            example = "{\"CRITICAL\": 1, \"HIGH\": 3, \"MEDIUM\": 6, \"LOW\": 2}")
+    private Map<Priority, Long> authoredByPriority = new EnumMap<>(Priority.class);
+
+    @Schema(description = "Количество назначенных задач по приоритетам; "
+            + "задачи без приоритета учитываются только в общем количестве",
+            example = "{\"CRITICAL\": 0, \"HIGH\": 2, \"MEDIUM\": 2, \"LOW\": 1}")
+    private Map<Priority, Long> assignedByPriority = new EnumMap<>(Priority.class);
+}
@@ -0,0 +1,27 @@
+package com.company.taskmanager.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * DTO (Data Transfer Object) для профиля пользователя.
+ * Содержит основную информацию о пользователе и сводные счетчики его
+ * задач. Сами задачи в профиль не входят и запрашиваются постранично.
+ */
+@Data
+@Schema(description = "DTO для профиля пользователя")
+public class UserProfileDto {
+
+    @Schema(description = "Уникальный идентификатор пользователя", example = "1")
+    private Long id;
+
+    @Schema(description = "Имя пользователя", example = "Nikolay")
+    private String username;
+
+    @Schema(description = "Электронная почта пользователя",
+            example = "Nikolay@mail.com")
+    private String email;
+
+    @Schema(description = "Счетчики задач пользователя")
+    private TaskStatsDto stats;
+}
@@ -0,0 +1,20 @@
+package com.company.taskmanager.exceptions;
+
+/**
+ * Исключение для обработки некорректных параметров запроса.
+ * <p>
+ * Это исключение расширяет {@link RuntimeException} и предназначено
+ * для обозначения ситуаций, когда клиент передал значение, которое
+ * не может быть обработано, например поврежденный курсор пагинации.
+ */
+public class BadRequestException extends RuntimeException {
+
+    /**
+     * Создает новое исключение BadRequestException с заданным сообщением.
+     *
+     * @param message сообщение, которое описывает причину исключения.
+     */
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,20 @@
+package com.company.taskmanager.exceptions;
+
+/**
+ * Исключение для обработки конфликтов параллельного изменения.
+ * <p>
+ * Это исключение расширяет {@link RuntimeException} и предназначено
+ * для обозначения ситуаций, когда ресурс был изменен после того,
+ * как клиент получил его версию.
+ */
+public class ConflictException extends RuntimeException {
+
+    /**
+     * Создает новое исключение ConflictException с заданным сообщением.
+     *
+     * @param message сообщение, которое описывает причину исключения.
+     */
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -1,11 +1,13 @@
 package com.company.taskmanager.exceptions;
 
 import com.company.taskmanager.models.errors.AppError;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 /**
  * GlobalExceptionHandler — это глобальный обработчик исключений, который перехватывает
@@ -35,6 +37,70 @@ public class GlobalExceptionHandler {
                         e.getMessage()), HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Обрабатывает исключение {@link BadRequestException}, которое
+     * возникает при некорректных параметрах запроса.
+     *
+     * @param e исключение {@link BadRequestException}
+     * @return ответ с кодом 400 BAD REQUEST и сообщением об ошибке
+     */
+    @ExceptionHandler
+    public ResponseEntity<AppError> catchBadRequestException
+            (BadRequestException e) {
+        return new ResponseEntity<>(
+                new AppError(HttpStatus.BAD_REQUEST.value(),
+                        e.getMessage()), HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Обрабатывает исключение {@link ConflictException}, которое
+     * возникает, когда ресурс был изменен параллельно.
+     *
+     * @param e исключение {@link ConflictException}
+     * @return ответ с кодом 409 CONFLICT и сообщением об ошибке
+     */
+    @ExceptionHandler
+    public ResponseEntity<AppError> catchConflictException
+            (ConflictException e) {
+        return new ResponseEntity<>(
+                new AppError(HttpStatus.CONFLICT.value(),
+                        e.getMessage()), HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Обрабатывает исключение {@link OptimisticLockingFailureException},
+     * которое возникает, когда сохраняемая сущность была изменена
+     * другой транзакцией.
+     *
+     * @param e исключение {@link OptimisticLockingFailureException}
+     * @return ответ с кодом 409 CONFLICT и сообщением об ошибке
+     */
+    @ExceptionHandler
+    public ResponseEntity<AppError> catchOptimisticLockingFailureException
+            (OptimisticLockingFailureException e) {
+        return new ResponseEntity<>(
+                new AppError(HttpStatus.CONFLICT.value(),
+                        "Resource has been modified"), HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Обрабатывает исключение {@link MethodArgumentTypeMismatchException},
+     * которое возникает, когда параметр запроса не удается преобразовать
+     * к нужному типу, например неизвестный статус задачи.
+     *
+     * @param e исключение {@link MethodArgumentTypeMismatchException}
+     * @return ответ с кодом 400 BAD REQUEST и сообщением об ошибке
+     */
+    @ExceptionHandler
+    public ResponseEntity<AppError> catchMethodArgumentTypeMismatchException
+            (MethodArgumentTypeMismatchException e) {
+        return new ResponseEntity<>(
+                new AppError(HttpStatus.BAD_REQUEST.value(),
+                        "Invalid value of parameter " + e.getName()
+                                + ": " + e.getValue()),
+                HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * Обрабатывает исключение {@link AuthException}, которое
      * возникает при ошибке аутентификации.
@@ -81,6 +147,21 @@ public class GlobalExceptionHandler {
                         e.getMessage()), HttpStatus.UNAUTHORIZED);
     }
 
+    /**
+     * Обрабатывает исключение {@link NotSupportedException}, которое
+     * возникает при вызове операции, недоступной в текущей конфигурации.
+     *
+     * @param e исключение {@link NotSupportedException}
+     * @return ответ с кодом 501 NOT IMPLEMENTED и сообщением об ошибке
+     */
+    @ExceptionHandler
+    public ResponseEntity<AppError> catchNotSupportedException
+            (NotSupportedException e) {
+        return new ResponseEntity<>(
+                new AppError(HttpStatus.NOT_IMPLEMENTED.value(),
+                        e.getMessage()), HttpStatus.NOT_IMPLEMENTED);
+    }
+
     /**
      * Обрабатывает исключение {@link UsernameNotFoundException},
      * которое возникает, если пользователь не найден.
@@ -0,0 +1,21 @@
+package com.company.taskmanager.exceptions;
+
+/**
+ * Исключение для операций, недоступных в текущей конфигурации.
+ * <p>
+ * Это исключение расширяет {@link RuntimeException} и предназначено
+ * для обозначения ситуаций, когда операция зависит от возможностей,
+ * которых нет у используемой базы данных, например пересчет статистики,
+ * поддерживаемой триггерами PostgreSQL.
+ */
+public class NotSupportedException extends RuntimeException {
+
+    /**
+     * Создает новое исключение NotSupportedException с заданным сообщением.
+     *
+     * @param message сообщение, которое описывает причину исключения.
+     */
+    public NotSupportedException(String message) {
+        super(message);
+    }
+}
@@ -7,6 +7,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -18,9 +20,11 @@ import java.util.Date;
  * Комментарий связан с конкретной задачей и пользователем.
  * Каждый комментарий имеет идентификатор, текстовое содержимое,
  * и ассоциации с задачей и пользователем.
+ * Комментарии хранятся в кэше второго уровня Hibernate.
  * </p>
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "comment")
 @Table(name = "comments")
 @Builder
 @Data
@@ -28,15 +32,27 @@ import java.util.Date;
 @AllArgsConstructor
 public class Comment {
 
+    /**
+     * Имя внешнего ключа комментария на задачу (миграция V1).
+     */
+    public static final String TASK_FOREIGN_KEY = "fk_comments_task";
+
+    /**
+     * Максимальная длина текста комментария.
+     */
+    public static final int MAX_TEXT_LENGTH = 255;
+
     /**
      * Уникальный идентификатор для комментария.
      * <p>
-     * Это первичный ключ сущности комментария, автоматически
-     * генерируемый базой данных.
+     * Это первичный ключ сущности комментария. Значения выделяются
+     * из последовательности {@code comments_seq} блоками по 50, что
+     * позволяет Hibernate объединять вставки в пакеты.
      * </p>
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comments_seq")
+    @SequenceGenerator(name = "comments_seq", sequenceName = "comments_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -76,13 +92,15 @@ public class Comment {
      * Задача, связанная с этим комментарием.
      * <p>
      * Отношение "многие-к-одному" с сущностью {@link Task}.
-     * Указывает задачу, с которой связан комментарий.
+     * Указывает задачу, с которой связан комментарий. Задача загружается
+     * лениво: для отображения комментария достаточно ее идентификатора.
      * </p>
      *
      * @see Task
      */
-    @ManyToOne
-    @JoinColumn(name = "task_id", nullable = false)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id", nullable = false,
+            foreignKey = @ForeignKey(name = TASK_FOREIGN_KEY))
     private Task task;
 
     /**
@@ -0,0 +1,39 @@
+package com.company.taskmanager.models.task;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Количество задач, назначенных пользователю.
+ * <p>
+ * Таблица {@code executor_assignment_counts} поддерживается триггерами
+ * на {@code task_executors} в PostgreSQL, поэтому сущность доступна
+ * только для чтения. Если строки для пользователя нет, количество
+ * вычисляется по таблице назначений.
+ * </p>
+ */
+@Entity
+@Immutable
+@Table(name = "executor_assignment_counts")
+@Data
+@NoArgsConstructor
+public class ExecutorAssignmentCount {
+
+    /**
+     * Идентификатор пользователя.
+     */
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    /**
+     * Количество задач, в которых пользователь является исполнителем.
+     */
+    @Column(name = "assigned_count", nullable = false)
+    private long assignedCount;
+}
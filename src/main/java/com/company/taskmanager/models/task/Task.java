@@ -7,7 +7,11 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.util.*;
@@ -20,8 +24,17 @@ import java.util.*;
  * статус, приоритет, дату создания, автора и может иметь множество
  * исполнителей и комментариев.
  * </p>
+ * <p>
+ * При обновлении в запрос попадают только измененные колонки.
+ * </p>
+ * <p>
+ * Задачи, их исполнители и комментарии хранятся в кэше второго уровня
+ * Hibernate (см. {@code HibernateCacheConfig}).
+ * </p>
  */
 @Entity
+@DynamicUpdate
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "task")
 @Table(name = "tasks")
 @Builder
 @Data
@@ -30,10 +43,13 @@ import java.util.*;
 public class Task {
 
     /**
-     * Уникальный идентификатор задачи.
+     * Уникальный идентификатор задачи. Значения выделяются из
+     * последовательности {@code tasks_seq} блоками по 50, что позволяет
+     * Hibernate объединять вставки в пакеты.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -97,6 +113,8 @@ public class Task {
      * Набор исполнителей задачи. Может содержать несколько пользователей.
      */
     @ManyToMany
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "task.executors")
     @JoinTable(
             name = "task_executors",
             joinColumns = @JoinColumn(name = "task_id"),
@@ -106,10 +124,12 @@ public class Task {
 
     /**
      * Список комментариев к задаче. Комментарии каскадно удаляются
-     * при удалении задачи.
+     * при удалении задачи. Загружаются пакетами сразу для нескольких задач.
      */
     @OneToMany(mappedBy = "task",
             cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "task.comments")
     @Builder.Default
     private List<Comment> comments = new ArrayList<>();
 
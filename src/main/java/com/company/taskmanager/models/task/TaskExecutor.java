@@ -0,0 +1,45 @@
+package com.company.taskmanager.models.task;
+
+import com.company.taskmanager.models.user.User;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Назначение исполнителя на задачу (строка таблицы {@code task_executors}).
+ * <p>
+ * Сущность только для чтения: назначения создаются и удаляются через
+ * коллекцию {@link Task#getExecutors()} и массовые операции
+ * репозитория задач. Она позволяет строить запросы от таблицы
+ * назначений по индексу {@code (user_id, task_id)}, не соединяя ее
+ * с таблицей задач.
+ * </p>
+ */
+@Entity
+@Immutable
+@Table(name = "task_executors")
+@Data
+@NoArgsConstructor
+public class TaskExecutor {
+
+    /**
+     * Идентификатор назначения.
+     */
+    @EmbeddedId
+    private TaskExecutorId id;
+
+    /**
+     * Задача.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id", insertable = false, updatable = false)
+    private Task task;
+
+    /**
+     * Исполнитель.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", insertable = false, updatable = false)
+    private User user;
+}
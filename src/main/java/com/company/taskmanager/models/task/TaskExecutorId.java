@@ -0,0 +1,31 @@
+package com.company.taskmanager.models.task;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Составной идентификатор назначения исполнителя на задачу.
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskExecutorId implements Serializable {
+
+    /**
+     * Идентификатор задачи.
+     */
+    @Column(name = "task_id")
+    private Long taskId;
+
+    /**
+     * Идентификатор исполнителя.
+     */
+    @Column(name = "user_id")
+    private Long userId;
+}
@@ -0,0 +1,15 @@
+package com.company.taskmanager.models.task;
+
+/**
+ * Перечисление, представляющее роль пользователя в задаче.
+ */
+public enum TaskRole {
+    /**
+     * Пользователь является автором задачи.
+     */
+    AUTHOR,
+    /**
+     * Пользователь является исполнителем задачи.
+     */
+    EXECUTOR
+}
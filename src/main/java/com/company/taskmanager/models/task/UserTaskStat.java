@@ -0,0 +1,39 @@
+package com.company.taskmanager.models.task;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Количество задач пользователя с заданными ролью, статусом и приоритетом.
+ * <p>
+ * Таблица {@code user_task_stats} поддерживается триггерами на
+ * {@code tasks} и {@code task_executors} в PostgreSQL, поэтому сущность
+ * доступна только для чтения. Задачи без статуса или приоритета
+ * не учитываются. Если строк для пользователя нет, статистика
+ * вычисляется агрегирующими запросами по задачам.
+ * </p>
+ */
+@Entity
+@Immutable
+@Table(name = "user_task_stats")
+@Data
+@NoArgsConstructor
+public class UserTaskStat {
+
+    /**
+     * Пользователь, роль, статус и приоритет.
+     */
+    @EmbeddedId
+    private UserTaskStatId id;
+
+    /**
+     * Количество задач.
+     */
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+}
@@ -0,0 +1,96 @@
+package com.company.taskmanager.models.task;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Converter;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Составной идентификатор строки статистики задач пользователя.
+ * <p>
+ * Задачи без статуса или приоритета учитываются в строках со значением
+ * {@value #NONE}: столбцы ключа не допускают {@code null}, а без этих
+ * строк общее количество задач было бы неточным. В сущности такое
+ * значение представлено как {@code null}.
+ * </p>
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserTaskStatId implements Serializable {
+
+    /**
+     * Значение статуса или приоритета для задач, у которых оно не задано.
+     */
+    public static final String NONE = "NONE";
+
+    /**
+     * Идентификатор пользователя.
+     */
+    @Column(name = "user_id")
+    private Long userId;
+
+    /**
+     * Роль пользователя в задачах.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "role_in_task")
+    private TaskRole role;
+
+    /**
+     * Статус задач или {@code null} для задач без статуса.
+     */
+    @Convert(converter = StatusConverter.class)
+    @Column(name = "status")
+    private Status status;
+
+    /**
+     * Приоритет задач или {@code null} для задач без приоритета.
+     */
+    @Convert(converter = PriorityConverter.class)
+    @Column(name = "priority")
+    private Priority priority;
+
+    /**
+     * Преобразует статус, сохраняя отсутствие статуса как {@value #NONE}.
+     */
+    @Converter
+    public static class StatusConverter implements AttributeConverter<Status, String> {
+
+        @Override
+        public String convertToDatabaseColumn(Status status) {
+            return status == null ? NONE : status.name();
+        }
+
+        @Override
+        public Status convertToEntityAttribute(String value) {
+            return value == null || NONE.equals(value) ? null : Status.valueOf(value);
+        }
+    }
+
+    /**
+     * Преобразует приоритет, сохраняя отсутствие приоритета как {@value #NONE}.
+     */
+    @Converter
+    public static class PriorityConverter implements AttributeConverter<Priority, String> {
+
+        @Override
+        public String convertToDatabaseColumn(Priority priority) {
+            return priority == null ? NONE : priority.name();
+        }
+
+        @Override
+        public Priority convertToEntityAttribute(String value) {
+            return value == null || NONE.equals(value) ? null : Priority.valueOf(value);
+        }
+    }
+}
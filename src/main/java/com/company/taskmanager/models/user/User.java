@@ -8,6 +8,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.security.core.GrantedAuthority;
@@ -25,9 +27,11 @@ import java.util.List;
  * email, приоритет, дату создания и обновления. Пользователь может быть
  * автором задач и иметь множество задач и комментариев.
  * Реализует интерфейс {@link UserDetails} для интеграции с Spring Security.
+ * Пользователи хранятся в кэше второго уровня Hibernate.
  * </p>
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 @Builder
 @Table(name = "users")
 @Data
@@ -39,7 +43,8 @@ public class User implements UserDetails {
      * Уникальный идентификатор пользователя.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
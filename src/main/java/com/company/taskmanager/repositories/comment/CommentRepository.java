@@ -1,8 +1,15 @@
 package com.company.taskmanager.repositories.comment;
 
 import com.company.taskmanager.models.comment.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
 /**
  * Репозиторий для работы с сущностями комментарии.
  * <p>
@@ -11,4 +18,38 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    /**
+     * Общая часть запросов проекций {@link CommentView}.
+     */
+    String VIEW_SELECT = "select c.id as id, c.task.id as taskId, " +
+            "c.text as text, u.id as userId, u.username as username, " +
+            "c.createdAt as createdAt from Comment c join c.user u ";
+
+    /**
+     * Ищет проекции комментариев для нескольких задач одним запросом.
+     *
+     * @param taskIds идентификаторы задач
+     * @return список комментариев, упорядоченный по задаче и дате создания
+     */
+    @Query(VIEW_SELECT + "where c.task.id in ?1 " +
+            "order by c.task.id, c.createdAt, c.id")
+    List<CommentView> findViewsByTaskIdIn(Collection<Long> taskIds);
+
+    /**
+     * Страница комментариев задачи по ключу (дата создания, идентификатор)
+     * от старых к новым. Запрос читает индекс
+     * {@code (task_id, created_at, id)} сразу с позиции курсора.
+     *
+     * @param taskId    идентификатор задачи
+     * @param createdAt дата создания последнего комментария предыдущей страницы
+     * @param id        идентификатор последнего комментария предыдущей страницы
+     * @param limit     максимальное количество комментариев
+     * @return список проекций комментариев
+     */
+    @Query(VIEW_SELECT + "where c.task.id = ?1 " +
+            "and (c.createdAt, c.id) > (?2, ?3) " +
+            "order by c.createdAt, c.id")
+    List<CommentView> findPageByTaskId(Long taskId, Date createdAt, Long id,
+                                       Limit limit);
 }
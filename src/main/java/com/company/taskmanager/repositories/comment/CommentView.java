@@ -0,0 +1,39 @@
+package com.company.taskmanager.repositories.comment;
+
+import java.util.Date;
+
+/**
+ * Проекция комментария без загрузки сущностей задачи и пользователя.
+ */
+public interface CommentView {
+
+    /**
+     * @return идентификатор комментария
+     */
+    Long getId();
+
+    /**
+     * @return идентификатор задачи
+     */
+    Long getTaskId();
+
+    /**
+     * @return текст комментария
+     */
+    String getText();
+
+    /**
+     * @return идентификатор автора комментария
+     */
+    Long getUserId();
+
+    /**
+     * @return имя пользователя, оставившего комментарий
+     */
+    String getUsername();
+
+    /**
+     * @return дата создания комментария
+     */
+    Date getCreatedAt();
+}
@@ -0,0 +1,156 @@
+package com.company.taskmanager.repositories.task;
+
+import com.company.taskmanager.dtos.CommentDto;
+import com.company.taskmanager.dtos.TaskDto;
+import com.company.taskmanager.models.task.Priority;
+import com.company.taskmanager.models.task.Status;
+import io.r2dbc.spi.Readable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+/**
+ * Неблокирующий репозиторий чтения задач на основе R2DBC.
+ * <p>
+ * Работает с той же схемой {@code tasks}/{@code task_executors}/
+ * {@code comments}, что и JPA-репозитории, но только на чтение: запись
+ * по-прежнему выполняется через {@link TaskRepository}. Исполнители
+ * агрегируются в одну строку подзапросом, поэтому каждая задача читается
+ * одной строкой результата. Строки выдаются по мере запроса подписчиком.
+ * </p>
+ */
+@Repository
+@ConditionalOnProperty(name = "task.reactive-api.enabled", havingValue = "true")
+public class ReactiveTaskReadRepository {
+    private static final String SELECT = "SELECT t.id, t.title, t.description, "
+            + "t.status, t.priority, t.version, a.username AS author, "
+            + "(SELECT string_agg(u.username, chr(31)) FROM task_executors te "
+            + "JOIN users u ON u.id = te.user_id WHERE te.task_id = t.id) AS executors "
+            + "FROM tasks t JOIN users a ON a.id = t.author_id ";
+
+    private static final String ORDER = " ORDER BY t.created_at DESC, t.id DESC LIMIT :limit";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Конструктор репозитория.
+     *
+     * @param databaseClient клиент R2DBC
+     */
+    public ReactiveTaskReadRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Возвращает задачи автора от новых к старым без комментариев.
+     *
+     * @param authorId идентификатор автора
+     * @param limit    максимальное количество задач
+     * @return поток задач
+     */
+    public Flux<TaskDto> findByAuthor(Long authorId, int limit) {
+        return databaseClient.sql(SELECT + "WHERE t.author_id = :userId" + ORDER)
+                .bind("userId", authorId)
+                .bind("limit", limit)
+                .map(ReactiveTaskReadRepository::toTaskDto)
+                .all();
+    }
+
+    /**
+     * Возвращает задачи исполнителя от новых к старым без комментариев.
+     *
+     * @param executorId идентификатор исполнителя
+     * @param limit      максимальное количество задач
+     * @return поток задач
+     */
+    public Flux<TaskDto> findByExecutor(Long executorId, int limit) {
+        return databaseClient.sql(SELECT + "WHERE EXISTS (SELECT 1 FROM task_executors te "
+                        + "WHERE te.task_id = t.id AND te.user_id = :userId)" + ORDER)
+                .bind("userId", executorId)
+                .bind("limit", limit)
+                .map(ReactiveTaskReadRepository::toTaskDto)
+                .all();
+    }
+
+    /**
+     * Возвращает идентификатор пользователя по имени.
+     *
+     * @param username имя пользователя
+     * @return идентификатор или пустой результат, если пользователь не найден
+     */
+    public Mono<Long> findUserIdByUsername(String username) {
+        return databaseClient.sql("SELECT id FROM users WHERE username = :username")
+                .bind("username", username)
+                .map(row -> row.get("id", Long.class))
+                .one();
+    }
+
+    /**
+     * Возвращает задачу вместе с комментариями.
+     *
+     * @param id идентификатор задачи
+     * @return задача или пустой результат, если задача не найдена
+     */
+    public Mono<TaskDto> findById(Long id) {
+        Mono<TaskDto> task = databaseClient.sql(SELECT + "WHERE t.id = :id")
+                .bind("id", id)
+                .map(ReactiveTaskReadRepository::toTaskDto)
+                .one();
+        return task.zipWith(findComments(id).collectList(), (dto, comments) -> {
+            dto.setComments(comments);
+            return dto;
+        });
+    }
+
+    /**
+     * Возвращает комментарии задачи в порядке создания.
+     *
+     * @param taskId идентификатор задачи
+     * @return поток комментариев
+     */
+    public Flux<CommentDto> findComments(Long taskId) {
+        return databaseClient.sql("SELECT c.id, c.task_id, c.text, u.username "
+                        + "FROM comments c JOIN users u ON u.id = c.user_id "
+                        + "WHERE c.task_id = :taskId ORDER BY c.created_at, c.id")
+                .bind("taskId", taskId)
+                .map(row -> {
+                    CommentDto dto = new CommentDto();
+                    dto.setId(row.get("id", Long.class));
+                    dto.setTaskId(row.get("task_id", Long.class));
+                    dto.setText(row.get("text", String.class));
+                    dto.setUsername(row.get("username", String.class));
+                    return dto;
+                })
+                .all();
+    }
+
+    /**
+     * Преобразует строку результата в TaskDto без комментариев.
+     *
+     * @param row строка результата
+     * @return TaskDto
+     */
+    private static TaskDto toTaskDto(Readable row) {
+        TaskDto dto = new TaskDto();
+        dto.setId(row.get("id", Long.class));
+        dto.setTitle(row.get("title", String.class));
+        dto.setDescription(row.get("description", String.class));
+        String status = row.get("status", String.class);
+        dto.setStatus(status != null ? Status.valueOf(status) : null);
+        String priority = row.get("priority", String.class);
+        dto.setPriority(priority != null ? Priority.valueOf(priority) : null);
+        dto.setVersion(row.get("version", Long.class));
+        dto.setAuthor(row.get("author", String.class));
+        String executors = row.get("executors", String.class);
+        if (executors != null) {
+            dto.setExecutors(new HashSet<>(Arrays.asList(
+                    executors.split(TaskListView.EXECUTOR_SEPARATOR))));
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,25 @@
+package com.company.taskmanager.repositories.task;
+
+import com.company.taskmanager.models.task.Priority;
+import com.company.taskmanager.models.task.Status;
+
+/**
+ * Проекция количества задач с заданными статусом и приоритетом.
+ */
+public interface TaskCountView {
+
+    /**
+     * @return статус задач
+     */
+    Status getStatus();
+
+    /**
+     * @return приоритет задач
+     */
+    Priority getPriority();
+
+    /**
+     * @return количество задач с этими статусом и приоритетом
+     */
+    Long getCount();
+}
@@ -0,0 +1,44 @@
+package com.company.taskmanager.repositories.task;
+
+import com.company.taskmanager.models.task.TaskExecutor;
+import com.company.taskmanager.models.task.TaskExecutorId;
+import com.company.taskmanager.models.user.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Репозиторий назначений исполнителей на задачи.
+ * <p>
+ * Запросы строятся от таблицы {@code task_executors} по индексу
+ * {@code (user_id, task_id)} и не обращаются к таблице задач, поэтому
+ * их стоимость зависит только от количества назначений пользователя.
+ * </p>
+ */
+@Repository
+public interface TaskExecutorRepository
+        extends JpaRepository<TaskExecutor, TaskExecutorId> {
+
+    /**
+     * Подсчитывает задачи, в которых пользователь является исполнителем.
+     *
+     * @param executor исполнитель
+     * @return количество назначений
+     */
+    @Query("select count(te) from TaskExecutor te where te.user = ?1")
+    long countByUser(User executor);
+
+    /**
+     * Возвращает поддерживаемое триггерами количество задач,
+     * назначенных пользователю.
+     *
+     * @param userId идентификатор пользователя
+     * @return количество назначений или пустой результат, если
+     * строки для пользователя нет
+     */
+    @Query("select c.assignedCount from ExecutorAssignmentCount c " +
+            "where c.userId = ?1")
+    Optional<Long> findAssignedCount(Long userId);
+}
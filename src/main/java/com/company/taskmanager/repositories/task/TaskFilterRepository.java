@@ -0,0 +1,23 @@
+package com.company.taskmanager.repositories.task;
+
+import com.company.taskmanager.models.task.Task;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Фрагмент репозитория задач для отбора по произвольной комбинации
+ * условий (см. {@link TaskSpecifications}).
+ */
+public interface TaskFilterRepository {
+
+    /**
+     * Ищет идентификаторы задач, удовлетворяющих условию отбора.
+     *
+     * @param specification условие отбора
+     * @param pageable      объект, содержащий информацию
+     *                      о требуемой странице, ее размере и сортировке.
+     * @return страница идентификаторов задач
+     */
+    Page<Long> findIds(Specification<Task> specification, Pageable pageable);
+}
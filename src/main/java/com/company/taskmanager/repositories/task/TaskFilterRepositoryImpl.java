@@ -0,0 +1,75 @@
+package com.company.taskmanager.repositories.task;
+
+import com.company.taskmanager.models.task.Task;
+import com.company.taskmanager.models.task.Task_;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+/**
+ * Реализация {@link TaskFilterRepository} на Criteria API.
+ * <p>
+ * Выбираются только идентификаторы задач, поэтому запрос может быть
+ * выполнен по индексу без чтения строк таблицы; сами задачи загружаются
+ * отдельным запросом по идентификаторам.
+ * </p>
+ */
+public class TaskFilterRepositoryImpl implements TaskFilterRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Long> findIds(Specification<Task> specification,
+                              Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(root.get(Task_.id));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<Long> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<Long> ids = typedQuery.getResultList();
+
+        return PageableExecutionUtils.getPage(ids, pageable,
+                () -> count(specification));
+    }
+
+    /**
+     * Подсчитывает количество задач, удовлетворяющих условию отбора.
+     *
+     * @param specification условие отбора
+     * @return количество задач
+     */
+    private long count(Specification<Task> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(cb.count(root));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,72 @@
+package com.company.taskmanager.repositories.task;
+
+import com.company.taskmanager.models.task.Priority;
+import com.company.taskmanager.models.task.Status;
+
+import java.util.Date;
+
+/**
+ * Проекция задачи для списков.
+ * <p>
+ * Содержит только колонки, необходимые для отображения задачи в списке:
+ * без комментариев и без загрузки сущностей автора и исполнителей.
+ * </p>
+ */
+public interface TaskListView {
+
+    /**
+     * Разделитель имен исполнителей в {@link #getExecutors()}.
+     */
+    String EXECUTOR_SEPARATOR = "\u001F";
+
+    /**
+     * @return идентификатор задачи
+     */
+    Long getId();
+
+    /**
+     * @return заголовок задачи
+     */
+    String getTitle();
+
+    /**
+     * @return описание задачи
+     */
+    String getDescription();
+
+    /**
+     * @return статус задачи
+     */
+    Status getStatus();
+
+    /**
+     * @return приоритет задачи
+     */
+    Priority getPriority();
+
+    /**
+     * @return дата создания задачи
+     */
+    Date getCreatedAt();
+
+    /**
+     * @return дата последнего обновления задачи
+     */
+    Date getUpdatedAt();
+
+    /**
+     * @return версия задачи
+     */
+    Long getVersion();
+
+    /**
+     * @return имя автора задачи (username)
+     */
+    String getAuthor();
+
+    /**
+     * @return имена исполнителей, объединенные через
+     * {@link #EXECUTOR_SEPARATOR}, или {@code null}, если исполнителей нет
+     */
+    String getExecutors();
+}
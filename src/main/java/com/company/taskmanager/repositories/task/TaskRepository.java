@@ -3,20 +3,63 @@ package com.company.taskmanager.repositories.task;
 import com.company.taskmanager.models.task.Status;
 import com.company.taskmanager.models.task.Task;
 import com.company.taskmanager.models.user.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 /**
  * Репозиторий для работы с сущностями задачи.
  * <p>
  * Предоставляет методы для поиска задач по статусу, автору и исполнителям.
  * Расширяет интерфейс {@link JpaRepository}, предоставляя стандартные CRUD-операции.
  * </p>
+ * <p>
+ * Методы {@code findPageBy...} загружают страницу в два этапа: сначала
+ * идентификаторы задач с учетом пагинации, затем сами задачи вместе с автором
+ * и исполнителями одним запросом. Комментарии подгружаются пакетами
+ * (см. {@link Task#getComments()}), поэтому количество запросов на страницу
+ * не зависит от ее размера.
+ * </p>
+ * <p>
+ * Методы {@code findViewsBy...} возвращают проекции {@link TaskListView}
+ * для списков: выбираются только нужные колонки, а имена исполнителей
+ * агрегируются в базе данных ({@code listagg}, в PostgreSQL — {@code string_agg}).
+ * </p>
+ * <p>
+ * Методы {@code findFeedBy...} реализуют постраничный просмотр по ключу
+ * ({@code created_at}/{@code updated_at}, {@code id}): следующая страница
+ * начинается строго после переданной пары значений.
+ * </p>
+ * <p>
+ * {@link #findViewPage(Specification, Pageable)} отбирает задачи по
+ * произвольной комбинации условий {@link TaskSpecifications}.
+ * </p>
+ * <p>
+ * Методы {@code streamBy...} читают задачи курсором базы данных порциями
+ * по {@link #STREAM_FETCH_SIZE} строк и должны вызываться внутри транзакции;
+ * поток необходимо закрыть после чтения.
+ * </p>
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>,
+        TaskFilterRepository {
 
     /**
      * Ищет задачи по их статусу.
@@ -47,6 +90,607 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      * @return список задач, где данный пользователь является одним
      * из исполнителей
      */
+    @Query(value = "select t from Task t join t.executors e where e = ?1",
+            countQuery = EXECUTOR_COUNT_QUERY)
     Page<Task> findByExecutorsContaining(User executor, Pageable pageable);
 
+    /**
+     * Максимальное количество идентификаторов в одном запросе
+     * загрузки задач.
+     */
+    int FETCH_CHUNK_SIZE = 500;
+
+    /**
+     * Количество строк, получаемых из курсора базы данных за одно
+     * обращение при потоковом чтении задач.
+     */
+    String STREAM_FETCH_SIZE = "500";
+
+    /**
+     * Запрос количества задач исполнителя по таблице назначений
+     * без соединения с таблицей задач.
+     */
+    String EXECUTOR_COUNT_QUERY =
+            "select count(te) from TaskExecutor te where te.user = ?1";
+
+    /**
+     * Общая часть запросов проекций {@link TaskListView}.
+     */
+    String LIST_VIEW_SELECT = "select t.id as id, t.title as title, " +
+            "t.description as description, t.status as status, " +
+            "t.priority as priority, t.createdAt as createdAt, " +
+            "t.updatedAt as updatedAt, t.version as version, " +
+            "a.username as author, " +
+            "(select listagg(e.username, '" + TaskListView.EXECUTOR_SEPARATOR +
+            "') from Task t2 join t2.executors e where t2.id = t.id) " +
+            "as executors from Task t join t.author a ";
+
+    /**
+     * Ищет проекции задач, созданных указанным автором.
+     *
+     * @param author   автор задачи
+     * @param pageable объект, содержащий информацию
+     *                 о требуемой странице и размере страницы.
+     * @return страница проекций задач
+     */
+    @Query(value = LIST_VIEW_SELECT + "where t.author = ?1",
+            countQuery = "select count(t) from Task t where t.author = ?1")
+    Page<TaskListView> findViewsByAuthor(User author, Pageable pageable);
+
+    /**
+     * Ищет проекции задач, в которых указанный пользователь
+     * является исполнителем.
+     *
+     * @param executor пользователь, указанный в качестве исполнителя
+     * @param pageable объект, содержащий информацию
+     *                 о требуемой странице и размере страницы.
+     * @return страница проекций задач
+     */
+    @Query(value = LIST_VIEW_SELECT + "join t.executors ex where ex = ?1",
+            countQuery = EXECUTOR_COUNT_QUERY)
+    Page<TaskListView> findViewsByExecutor(User executor, Pageable pageable);
+
+    /**
+     * Ищет проекции задач исполнителя для страницы без подсчета
+     * общего количества.
+     *
+     * @param executor пользователь, указанный в качестве исполнителя
+     * @param pageable объект, содержащий информацию
+     *                 о требуемой странице и размере страницы.
+     * @return проекции задач страницы
+     */
+    @Query(LIST_VIEW_SELECT + "join t.executors ex where ex = ?1")
+    List<TaskListView> findViewListByExecutor(User executor, Pageable pageable);
+
+    /**
+     * Загружает проекции задач по идентификаторам.
+     *
+     * @param ids идентификаторы задач
+     * @return список проекций задач в произвольном порядке
+     */
+    @Query(LIST_VIEW_SELECT + "where t.id in ?1")
+    List<TaskListView> findViewsByIdIn(Collection<Long> ids);
+
+    /**
+     * Ищет проекции задач, удовлетворяющих условию отбора.
+     *
+     * @param specification условие отбора
+     * @param pageable      объект, содержащий информацию
+     *                      о требуемой странице, ее размере и сортировке.
+     * @return страница проекций задач
+     */
+    default Page<TaskListView> findViewPage(Specification<Task> specification,
+                                            Pageable pageable) {
+        Page<Long> ids = findIds(specification, pageable);
+        Map<Long, TaskListView> views = new HashMap<>(ids.getNumberOfElements());
+        List<Long> content = ids.getContent();
+        for (int from = 0; from < content.size(); from += FETCH_CHUNK_SIZE) {
+            List<Long> chunk = content.subList(from,
+                    Math.min(from + FETCH_CHUNK_SIZE, content.size()));
+            findViewsByIdIn(chunk).forEach(view -> views.put(view.getId(), view));
+        }
+        return ids.map(views::get);
+    }
+
+    /**
+     * Потоково читает задачи автора в порядке идентификаторов.
+     *
+     * @param author автор задач
+     * @return поток задач только для чтения
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("select t from Task t join fetch t.author where t.author = ?1 " +
+            "order by t.id")
+    Stream<Task> streamByAuthor(User author);
+
+    /**
+     * Потоково читает задачи исполнителя в порядке идентификаторов.
+     *
+     * @param executor пользователь, указанный в качестве исполнителя
+     * @return поток задач только для чтения
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("select t from Task t join fetch t.author join t.executors ex " +
+            "where ex = ?1 order by t.id")
+    Stream<Task> streamByExecutor(User executor);
+
+    /**
+     * Лента задач автора, упорядоченная по дате создания (от новых к старым).
+     *
+     * @param author    автор задачи
+     * @param createdAt дата создания последней задачи предыдущей страницы
+     * @param id        идентификатор последней задачи предыдущей страницы
+     * @param limit     максимальное количество задач
+     * @return список проекций задач
+     */
+    @Query(LIST_VIEW_SELECT + "where t.author = ?1 " +
+            "and (t.createdAt, t.id) < (?2, ?3) " +
+            "order by t.createdAt desc, t.id desc")
+    List<TaskListView> findFeedByAuthorOrderByCreated(
+            User author, Date createdAt, Long id, Limit limit);
+
+    /**
+     * Лента задач автора, упорядоченная по дате обновления
+     * (от новых к старым).
+     *
+     * @param author    автор задачи
+     * @param updatedAt дата обновления последней задачи предыдущей страницы
+     * @param id        идентификатор последней задачи предыдущей страницы
+     * @param limit     максимальное количество задач
+     * @return список проекций задач
+     */
+    @Query(LIST_VIEW_SELECT + "where t.author = ?1 " +
+            "and (t.updatedAt, t.id) < (?2, ?3) " +
+            "order by t.updatedAt desc, t.id desc")
+    List<TaskListView> findFeedByAuthorOrderByUpdated(
+            User author, Date updatedAt, Long id, Limit limit);
+
+    /**
+     * Лента задач исполнителя, упорядоченная по дате создания
+     * (от новых к старым).
+     *
+     * @param executor  пользователь, указанный в качестве исполнителя
+     * @param createdAt дата создания последней задачи предыдущей страницы
+     * @param id        идентификатор последней задачи предыдущей страницы
+     * @param limit     максимальное количество задач
+     * @return список проекций задач
+     */
+    @Query(LIST_VIEW_SELECT + "join t.executors ex where ex = ?1 " +
+            "and (t.createdAt, t.id) < (?2, ?3) " +
+            "order by t.createdAt desc, t.id desc")
+    List<TaskListView> findFeedByExecutorOrderByCreated(
+            User executor, Date createdAt, Long id, Limit limit);
+
+    /**
+     * Лента задач исполнителя, упорядоченная по дате обновления
+     * (от новых к старым).
+     *
+     * @param executor  пользователь, указанный в качестве исполнителя
+     * @param updatedAt дата обновления последней задачи предыдущей страницы
+     * @param id        идентификатор последней задачи предыдущей страницы
+     * @param limit     максимальное количество задач
+     * @return список проекций задач
+     */
+    @Query(LIST_VIEW_SELECT + "join t.executors ex where ex = ?1 " +
+            "and (t.updatedAt, t.id) < (?2, ?3) " +
+            "order by t.updatedAt desc, t.id desc")
+    List<TaskListView> findFeedByExecutorOrderByUpdated(
+            User executor, Date updatedAt, Long id, Limit limit);
+
+    /**
+     * Ищет идентификаторы задач по их статусу. Результаты запроса
+     * и подсчета хранятся в кэше запросов Hibernate до изменения
+     * таблицы задач.
+     *
+     * @param status   статус задачи
+     * @param pageable объект, содержащий информацию
+     *                 о требуемой странице и размере страницы.
+     * @return страница идентификаторов задач
+     */
+    @Query(value = "select t.id from Task t where t.status = ?1",
+            countQuery = "select count(t) from Task t where t.status = ?1")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Page<Long> findIdsByStatus(Status status, Pageable pageable);
+
+    /**
+     * Ищет идентификаторы задач, созданных указанным автором. Результаты
+     * запроса и подсчета хранятся в кэше запросов Hibernate до изменения
+     * таблицы задач.
+     *
+     * @param author   автор задачи
+     * @param pageable объект, содержащий информацию
+     *                 о требуемой странице и размере страницы.
+     * @return страница идентификаторов задач
+     */
+    @Query(value = "select t.id from Task t where t.author = ?1",
+            countQuery = "select count(t) from Task t where t.author = ?1")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Page<Long> findIdsByAuthor(User author, Pageable pageable);
+
+    /**
+     * Ищет идентификаторы задач, в которых указанный пользователь
+     * является исполнителем.
+     *
+     * @param executor пользователь, указанный в качестве исполнителя
+     * @param pageable объект, содержащий информацию
+     *                 о требуемой странице и размере страницы.
+     * @return страница идентификаторов задач
+     */
+    @Query(value = "select t.id from Task t join t.executors e where e = ?1",
+            countQuery = EXECUTOR_COUNT_QUERY)
+    Page<Long> findIdsByExecutor(User executor, Pageable pageable);
+
+    /**
+     * Подсчитывает задачи автора по статусам и приоритетам одним
+     * агрегирующим запросом.
+     *
+     * @param author автор задач
+     * @return количество задач для каждой пары статуса и приоритета,
+     * у которой есть задачи
+     */
+    @Query("select t.status as status, t.priority as priority, " +
+            "count(t) as count from Task t " +
+            "where t.author = ?1 group by t.status, t.priority")
+    List<TaskCountView> countByAuthorGroupByStatusAndPriority(User author);
+
+    /**
+     * Подсчитывает задачи исполнителя по статусам и приоритетам одним
+     * агрегирующим запросом по таблице назначений.
+     *
+     * @param executor исполнитель задач
+     * @return количество задач для каждой пары статуса и приоритета,
+     * у которой есть задачи
+     */
+    @Query("select t.status as status, t.priority as priority, " +
+            "count(t) as count from TaskExecutor te join te.task t " +
+            "where te.user = ?1 group by t.status, t.priority")
+    List<TaskCountView> countByExecutorGroupByStatusAndPriority(User executor);
+
+    /**
+     * Ищет задачи по тексту заголовка, описания и комментариев.
+     * <p>
+     * Каждое слово ищется по префиксу отдельно по GIN-индексам столбцов
+     * {@code search_vector}, и задача подходит, если каждое слово найдено
+     * в ней самой или в одном из ее комментариев: слова запроса могут
+     * находиться в разных полях и разных комментариях. Релевантность
+     * задачи складывается из ранга заголовка и описания и половины ранга
+     * лучшего совпавшего комментария. Задачи упорядочены по убыванию
+     * пары (релевантность, идентификатор), и страница начинается сразу
+     * после позиции курсора. Фрагменты с выделенными совпадениями
+     * строятся только для задач страницы. Доступно только в PostgreSQL.
+     * </p>
+     *
+     * @param terms    слова запроса через пробел, содержащие только буквы
+     *                 и цифры
+     * @param status   статус задач или {@code null}
+     * @param priority приоритет задач или {@code null}
+     * @param authorId идентификатор автора задач или {@code null}
+     * @param rank     релевантность последней задачи предыдущей страницы
+     * @param id       идентификатор последней задачи предыдущей страницы
+     * @param limit    максимальное количество задач
+     * @return список найденных задач
+     */
+    @Query(value = "with terms as (" +
+            "select w.n, to_tsquery('simple', w.word || ':*') as query " +
+            "from unnest(string_to_array(?1, ' ')) with ordinality as w(word, n)), " +
+            "q as (select to_tsquery('simple', " +
+            "string_agg(word || ':*', ' | ')) as query " +
+            "from unnest(string_to_array(?1, ' ')) as word), " +
+            "matched as (" +
+            "select t.id, w.n from tasks t join terms w " +
+            "on t.search_vector @@ w.query " +
+            "union " +
+            "select c.task_id, w.n from comments c join terms w " +
+            "on c.search_vector @@ w.query), " +
+            "found as (" +
+            "select m.id from matched m group by m.id " +
+            "having count(*) = (select count(*) from terms)), " +
+            "scored as (" +
+            "select t.id, t.title, t.description, t.author_id, t.status, " +
+            "t.priority, cast(ts_rank(t.search_vector, q.query) + 0.5 * " +
+            "coalesce((select max(ts_rank(c.search_vector, q.query)) " +
+            "from comments c where c.task_id = t.id " +
+            "and c.search_vector @@ q.query), 0) as real) as rank " +
+            "from found f join tasks t on t.id = f.id cross join q " +
+            "where (cast(?2 as text) is null or t.status = cast(?2 as text)) " +
+            "and (cast(?3 as text) is null or t.priority = cast(?3 as text)) " +
+            "and (cast(?4 as bigint) is null or t.author_id = cast(?4 as bigint))), " +
+            "page as (" +
+            "select * from scored s " +
+            "where (s.rank, s.id) < (cast(?5 as real), ?6) " +
+            "order by s.rank desc, s.id desc " +
+            "limit ?7) " +
+            "select p.id as id, p.title as title, p.status as status, " +
+            "p.priority as priority, u.username as author, p.rank as rank, " +
+            "ts_headline('simple', concat_ws(' ', p.title, p.description), " +
+            "q.query, 'MaxFragments=2, MaxWords=20, MinWords=5') as snippet, " +
+            "(select ts_headline('simple', c.text, q.query, " +
+            "'MaxFragments=1, MaxWords=20, MinWords=5') " +
+            "from comments c where c.task_id = p.id " +
+            "and c.search_vector @@ q.query " +
+            "order by ts_rank(c.search_vector, q.query) desc, c.id " +
+            "limit 1) as \"commentSnippet\" " +
+            "from page p join users u on u.id = p.author_id cross join q " +
+            "order by p.rank desc, p.id desc", nativeQuery = true)
+    List<TaskSearchView> search(String terms, String status, String priority,
+                                Long authorId, Float rank, Long id, int limit);
+
+    /**
+     * Загружает индексируемые поля задач для поискового индекса.
+     *
+     * @param ids идентификаторы задач
+     * @return проекции найденных задач в произвольном порядке
+     */
+    @Query("select t.id as id, t.title as title, " +
+            "t.description as description, t.status as status, " +
+            "t.priority as priority, a.id as authorId, a.username as author " +
+            "from Task t join t.author a where t.id in ?1")
+    List<TaskSearchDocumentView> findSearchDocumentsByIdIn(Collection<Long> ids);
+
+    /**
+     * Возвращает идентификаторы задач по возрастанию, начиная после
+     * указанного. Используется для обхода всех задач порциями.
+     *
+     * @param id    идентификатор, после которого начинается порция
+     * @param limit максимальное количество идентификаторов
+     * @return список идентификаторов задач
+     */
+    @Query("select t.id from Task t where t.id > ?1 order by t.id")
+    List<Long> findIdsAfter(Long id, Limit limit);
+
+    /**
+     * Загружает задачу вместе с автором и исполнителями одним запросом.
+     *
+     * @param id идентификатор задачи
+     * @return задача или пустой результат, если задача не найдена
+     */
+    @EntityGraph(attributePaths = {"author", "executors"})
+    Optional<Task> findWithExecutorsById(Long id);
+
+    /**
+     * Загружает задачи по идентификаторам вместе с автором и исполнителями.
+     *
+     * @param ids идентификаторы задач
+     * @return список задач в произвольном порядке
+     */
+    @EntityGraph(attributePaths = {"author", "executors"})
+    List<Task> findAllByIdIn(Collection<Long> ids);
+
+    /**
+     * Возвращает версии задач, в которых пользователь является
+     * исполнителем, для массовой смены статуса.
+     *
+     * @param ids      идентификаторы задач
+     * @param executor исполнитель задач
+     * @param status   новый статус
+     * @return версии задач; задачи, недоступные исполнителю, не возвращаются
+     */
+    @Query("select t.id as id, t.version as version, " +
+            "case when t.status = ?3 then false else true end as changed " +
+            "from Task t join t.executors ex where t.id in ?1 and ex = ?2")
+    List<TaskVersionView> findVersionsForStatus(Collection<Long> ids,
+                                                User executor, Status status);
+
+    /**
+     * Возвращает версии задач автора для массового назначения исполнителя.
+     *
+     * @param ids      идентификаторы задач
+     * @param author   автор задач
+     * @param executor назначаемый исполнитель
+     * @return версии задач; задачи других авторов не возвращаются
+     */
+    @Query("select t.id as id, t.version as version, " +
+            "case when ?3 member of t.executors then false else true end as changed " +
+            "from Task t where t.id in ?1 and t.author = ?2")
+    List<TaskVersionView> findVersionsForExecutorAdd(Collection<Long> ids,
+                                                     User author, User executor);
+
+    /**
+     * Возвращает версии задач автора для массового снятия исполнителя.
+     *
+     * @param ids      идентификаторы задач
+     * @param author   автор задач
+     * @param executor снимаемый исполнитель
+     * @return версии задач; задачи других авторов не возвращаются
+     */
+    @Query("select t.id as id, t.version as version, " +
+            "case when ?3 member of t.executors then true else false end as changed " +
+            "from Task t where t.id in ?1 and t.author = ?2")
+    List<TaskVersionView> findVersionsForExecutorRemove(Collection<Long> ids,
+                                                        User author, User executor);
+
+    /**
+     * Меняет статус задач с указанной версией и увеличивает их версию.
+     *
+     * @param ids       идентификаторы задач
+     * @param version   ожидаемая версия задач
+     * @param status    новый статус
+     * @param updatedAt дата обновления
+     * @return количество измененных задач
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.status = ?3, t.version = t.version + 1, " +
+            "t.updatedAt = ?4 where t.id in ?1 and t.version = ?2")
+    int updateStatus(Collection<Long> ids, Long version, Status status,
+                     Date updatedAt);
+
+    /**
+     * Меняет статус задачи, если пользователь является ее исполнителем,
+     * и увеличивает ее версию.
+     * <p>
+     * Запрос написан на SQL: массовый запрос HQL к задачам заставил бы
+     * Hibernate сбросить весь регион задач. Запрос синхронизируется только
+     * с читаемой им таблицей {@code task_executors}; ее сущность
+     * {@code TaskExecutor} не кэшируется, поэтому Hibernate не сбрасывает
+     * ни записи задач, ни результаты запросов по задачам. Вызывающий код
+     * сбрасывает их через {@code EntityCacheService.evictTask}.
+     * </p>
+     *
+     * @param id         идентификатор задачи
+     * @param status     новый статус
+     * @param executorId идентификатор исполнителя задачи
+     * @param updatedAt  дата обновления
+     * @return количество измененных задач
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES,
+            value = "task_executors"))
+    @Query(value = "update tasks set status = ?2, version = version + 1, " +
+            "updated_at = ?4 where id = ?1 and exists (select 1 " +
+            "from task_executors te where te.task_id = ?1 and te.user_id = ?3)",
+            nativeQuery = true)
+    int updateStatusByExecutor(Long id, String status, Long executorId,
+                               Date updatedAt);
+
+    /**
+     * Меняет статус задачи с указанной версией, если пользователь является
+     * ее исполнителем, и увеличивает ее версию.
+     * <p>
+     * Запрос написан на SQL: массовый запрос HQL к задачам заставил бы
+     * Hibernate сбросить весь регион задач. Запрос синхронизируется только
+     * с читаемой им таблицей {@code task_executors}; ее сущность
+     * {@code TaskExecutor} не кэшируется, поэтому Hibernate не сбрасывает
+     * ни записи задач, ни результаты запросов по задачам. Вызывающий код
+     * сбрасывает их через {@code EntityCacheService.evictTask}.
+     * </p>
+     *
+     * @param id         идентификатор задачи
+     * @param status     новый статус
+     * @param executorId идентификатор исполнителя задачи
+     * @param updatedAt  дата обновления
+     * @param version    ожидаемая версия задачи
+     * @return количество измененных задач
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES,
+            value = "task_executors"))
+    @Query(value = "update tasks set status = ?2, version = version + 1, " +
+            "updated_at = ?4 where id = ?1 and version = ?5 and exists (select 1 " +
+            "from task_executors te where te.task_id = ?1 and te.user_id = ?3)",
+            nativeQuery = true)
+    int updateStatusByExecutor(Long id, String status, Long executorId,
+                               Date updatedAt, Long version);
+
+    /**
+     * Увеличивает версию задач с указанной версией.
+     * Массовое обновление сбрасывает регион задач в кэше второго уровня,
+     * поэтому задачи с прежней версией из кэша не читаются.
+     *
+     * @param ids       идентификаторы задач
+     * @param version   ожидаемая версия задач
+     * @param updatedAt дата обновления
+     * @return количество измененных задач
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.version = t.version + 1, t.updatedAt = ?3 " +
+            "where t.id in ?1 and t.version = ?2")
+    int incrementVersion(Collection<Long> ids, Long version, Date updatedAt);
+
+    /**
+     * Назначает пользователя исполнителем задач.
+     * Запрос синхронизируется только с таблицей {@code task_executors}.
+     * Ее занимает сущность {@code TaskExecutor}, которая не кэшируется
+     * и не является ни владельцем, ни элементом кэшируемых коллекций,
+     * поэтому Hibernate не сбрасывает ни регионы сущностей, ни коллекции
+     * исполнителей. Вызывающий код сбрасывает коллекции измененных задач
+     * через {@code EntityCacheService.evictExecutors}. Если
+     * {@code TaskExecutor} станет кэшируемой, запрос будет сбрасывать
+     * ее регион целиком.
+     * Несохраненные изменения сессии записываются в базу данных явно.
+     *
+     * @param ids    идентификаторы задач, в которых пользователь
+     *               еще не является исполнителем
+     * @param userId идентификатор пользователя
+     * @return количество добавленных записей
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES,
+            value = "task_executors"))
+    @Query(value = "insert into task_executors (task_id, user_id) " +
+            "select t.id, ?2 from tasks t where t.id in ?1", nativeQuery = true)
+    int insertExecutor(Collection<Long> ids, Long userId);
+
+    /**
+     * Снимает пользователя с исполнения задач.
+     * Запрос синхронизируется только с таблицей {@code task_executors}.
+     * Ее занимает сущность {@code TaskExecutor}, которая не кэшируется
+     * и не является ни владельцем, ни элементом кэшируемых коллекций,
+     * поэтому Hibernate не сбрасывает ни регионы сущностей, ни коллекции
+     * исполнителей. Вызывающий код сбрасывает коллекции измененных задач
+     * через {@code EntityCacheService.evictExecutors}. Если
+     * {@code TaskExecutor} станет кэшируемой, запрос будет сбрасывать
+     * ее регион целиком.
+     * Несохраненные изменения сессии записываются в базу данных явно.
+     *
+     * @param ids    идентификаторы задач
+     * @param userId идентификатор пользователя
+     * @return количество удаленных записей
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES,
+            value = "task_executors"))
+    @Query(value = "delete from task_executors " +
+            "where task_id in ?1 and user_id = ?2", nativeQuery = true)
+    int deleteExecutor(Collection<Long> ids, Long userId);
+
+    /**
+     * Ищет задачи по их статусу, загружая связанные данные пакетно.
+     *
+     * @param status   статус задачи
+     * @param pageable объект, содержащий информацию
+     *                 о требуемой странице и размере страницы.
+     * @return страница задач с указанным статусом
+     */
+    default Page<Task> findPageByStatus(Status status, Pageable pageable) {
+        return fetchPage(findIdsByStatus(status, pageable));
+    }
+
+    /**
+     * Ищет задачи, созданные указанным автором, загружая связанные
+     * данные пакетно.
+     *
+     * @param author   автор задачи
+     * @param pageable объект, содержащий информацию
+     *                 о требуемой странице и размере страницы.
+     * @return страница задач, созданных данным автором
+     */
+    default Page<Task> findPageByAuthor(User author, Pageable pageable) {
+        return fetchPage(findIdsByAuthor(author, pageable));
+    }
+
+    /**
+     * Ищет задачи, в которых указанный пользователь является исполнителем,
+     * загружая связанные данные пакетно.
+     *
+     * @param executor пользователь, указанный в качестве исполнителя
+     * @param pageable объект, содержащий информацию
+     *                 о требуемой странице и размере страницы.
+     * @return страница задач, где данный пользователь является одним
+     * из исполнителей
+     */
+    default Page<Task> findPageByExecutor(User executor, Pageable pageable) {
+        return fetchPage(findIdsByExecutor(executor, pageable));
+    }
+
+    /**
+     * Загружает задачи для страницы идентификаторов, сохраняя порядок
+     * и метаданные страницы.
+     *
+     * @param ids страница идентификаторов задач
+     * @return страница задач
+     */
+    default Page<Task> fetchPage(Page<Long> ids) {
+        List<Long> content = ids.getContent();
+        Map<Long, Task> tasks = new HashMap<>(content.size());
+        for (int from = 0; from < content.size(); from += FETCH_CHUNK_SIZE) {
+            List<Long> chunk = content.subList(from,
+                    Math.min(from + FETCH_CHUNK_SIZE, content.size()));
+            findAllByIdIn(chunk).forEach(task -> tasks.put(task.getId(), task));
+        }
+        return ids.map(tasks::get);
+    }
 }
@@ -0,0 +1,49 @@
+package com.company.taskmanager.repositories.task;
+
+import com.company.taskmanager.models.task.Priority;
+import com.company.taskmanager.models.task.Status;
+
+/**
+ * Проекция задачи для построения документа поискового индекса.
+ * <p>
+ * Содержит индексируемые поля задачи без загрузки сущностей автора,
+ * исполнителей и комментариев.
+ * </p>
+ */
+public interface TaskSearchDocumentView {
+
+    /**
+     * @return идентификатор задачи
+     */
+    Long getId();
+
+    /**
+     * @return заголовок задачи
+     */
+    String getTitle();
+
+    /**
+     * @return описание задачи
+     */
+    String getDescription();
+
+    /**
+     * @return статус задачи
+     */
+    Status getStatus();
+
+    /**
+     * @return приоритет задачи
+     */
+    Priority getPriority();
+
+    /**
+     * @return идентификатор автора задачи
+     */
+    Long getAuthorId();
+
+    /**
+     * @return имя автора задачи
+     */
+    String getAuthor();
+}
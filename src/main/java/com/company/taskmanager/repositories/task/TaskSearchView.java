@@ -0,0 +1,48 @@
+package com.company.taskmanager.repositories.task;
+
+/**
+ * Проекция результата полнотекстового поиска задач.
+ */
+public interface TaskSearchView {
+
+    /**
+     * @return идентификатор задачи
+     */
+    Long getId();
+
+    /**
+     * @return заголовок задачи
+     */
+    String getTitle();
+
+    /**
+     * @return статус задачи
+     */
+    String getStatus();
+
+    /**
+     * @return приоритет задачи
+     */
+    String getPriority();
+
+    /**
+     * @return имя автора задачи
+     */
+    String getAuthor();
+
+    /**
+     * @return релевантность задачи запросу
+     */
+    Float getRank();
+
+    /**
+     * @return фрагмент заголовка и описания с выделенными совпадениями
+     */
+    String getSnippet();
+
+    /**
+     * @return фрагмент наиболее релевантного комментария с выделенными
+     * совпадениями или {@code null}, если совпадений в комментариях нет
+     */
+    String getCommentSnippet();
+}
@@ -0,0 +1,98 @@
+package com.company.taskmanager.repositories.task;
+
+import com.company.taskmanager.models.task.Priority;
+import com.company.taskmanager.models.task.Status;
+import com.company.taskmanager.models.task.Task;
+import com.company.taskmanager.models.task.Task_;
+import com.company.taskmanager.models.user.User;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Date;
+
+/**
+ * Фабрика условий отбора задач для {@link TaskFilterRepository}.
+ * <p>
+ * Каждое условие строится на типизированной метамодели {@link Task_}
+ * и возвращает {@code null}, если значение фильтра не задано, поэтому
+ * условия можно свободно комбинировать через {@link Specification#and}.
+ * </p>
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    /**
+     * Задачи с указанным статусом.
+     *
+     * @param status статус задачи
+     * @return условие отбора
+     */
+    public static Specification<Task> hasStatus(Status status) {
+        return (root, query, cb) -> status == null ? null
+                : cb.equal(root.get(Task_.status), status);
+    }
+
+    /**
+     * Задачи с указанным приоритетом.
+     *
+     * @param priority приоритет задачи
+     * @return условие отбора
+     */
+    public static Specification<Task> hasPriority(Priority priority) {
+        return (root, query, cb) -> priority == null ? null
+                : cb.equal(root.get(Task_.priority), priority);
+    }
+
+    /**
+     * Задачи указанного автора.
+     *
+     * @param author автор задачи
+     * @return условие отбора
+     */
+    public static Specification<Task> hasAuthor(User author) {
+        return (root, query, cb) -> author == null ? null
+                : cb.equal(root.get(Task_.author), author);
+    }
+
+    /**
+     * Задачи, в которых указанный пользователь является исполнителем.
+     *
+     * @param executor исполнитель задачи
+     * @return условие отбора
+     */
+    public static Specification<Task> hasExecutor(User executor) {
+        return (root, query, cb) -> executor == null ? null
+                : cb.equal(root.join(Task_.executors), executor);
+    }
+
+    /**
+     * Задачи, созданные в указанном диапазоне дат.
+     *
+     * @param from нижняя граница (включительно) или {@code null}
+     * @param to   верхняя граница (включительно) или {@code null}
+     * @return условие отбора
+     */
+    public static Specification<Task> createdBetween(Date from, Date to) {
+        return Specification
+                .<Task>where((root, query, cb) -> from == null ? null
+                        : cb.greaterThanOrEqualTo(root.get(Task_.createdAt), from))
+                .and((root, query, cb) -> to == null ? null
+                        : cb.lessThanOrEqualTo(root.get(Task_.createdAt), to));
+    }
+
+    /**
+     * Задачи, обновленные в указанном диапазоне дат.
+     *
+     * @param from нижняя граница (включительно) или {@code null}
+     * @param to   верхняя граница (включительно) или {@code null}
+     * @return условие отбора
+     */
+    public static Specification<Task> updatedBetween(Date from, Date to) {
+        return Specification
+                .<Task>where((root, query, cb) -> from == null ? null
+                        : cb.greaterThanOrEqualTo(root.get(Task_.updatedAt), from))
+                .and((root, query, cb) -> to == null ? null
+                        : cb.lessThanOrEqualTo(root.get(Task_.updatedAt), to));
+    }
+}
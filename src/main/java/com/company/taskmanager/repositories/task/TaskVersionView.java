@@ -0,0 +1,26 @@
+package com.company.taskmanager.repositories.task;
+
+/**
+ * Проекция задачи для массовых изменений.
+ * <p>
+ * Содержит текущую версию задачи и признак того, что запрошенное
+ * изменение меняет ее состояние.
+ * </p>
+ */
+public interface TaskVersionView {
+
+    /**
+     * @return идентификатор задачи
+     */
+    Long getId();
+
+    /**
+     * @return текущая версия задачи
+     */
+    Long getVersion();
+
+    /**
+     * @return true, если изменение меняет состояние задачи
+     */
+    Boolean getChanged();
+}
@@ -0,0 +1,43 @@
+package com.company.taskmanager.repositories.task;
+
+import com.company.taskmanager.models.task.UserTaskStat;
+import com.company.taskmanager.models.task.UserTaskStatId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Репозиторий статистики задач пользователей.
+ * <p>
+ * Строки пользователя читаются по префиксу первичного ключа, их не больше
+ * произведения количества ролей, статусов и приоритетов, поэтому
+ * стоимость чтения не зависит от количества задач.
+ * </p>
+ */
+@Repository
+public interface UserTaskStatRepository
+        extends JpaRepository<UserTaskStat, UserTaskStatId> {
+
+    /**
+     * Возвращает статистику задач пользователя.
+     *
+     * @param userId идентификатор пользователя
+     * @return строки статистики пользователя
+     */
+    @Query("select s.id.role as role, s.id.status as status, " +
+            "s.id.priority as priority, s.taskCount as count " +
+            "from UserTaskStat s where s.id.userId = ?1")
+    List<UserTaskStatView> findByUserId(Long userId);
+
+    /**
+     * Пересчитывает статистику всех пользователей по задачам
+     * и назначениям. Запись в задачи блокируется до конца транзакции.
+     * Доступно только в PostgreSQL.
+     *
+     * @return количество строк статистики после пересчета
+     */
+    @Query(value = "SELECT rebuild_user_task_stats()", nativeQuery = true)
+    long rebuild();
+}
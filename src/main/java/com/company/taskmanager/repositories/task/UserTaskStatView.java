@@ -0,0 +1,15 @@
+package com.company.taskmanager.repositories.task;
+
+import com.company.taskmanager.models.task.TaskRole;
+
+/**
+ * Проекция строки статистики задач пользователя. Статус или приоритет
+ * равны {@code null} для задач, у которых они не заданы.
+ */
+public interface UserTaskStatView extends TaskCountView {
+
+    /**
+     * @return роль пользователя в задачах
+     */
+    TaskRole getRole();
+}
@@ -39,6 +39,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query(value = "select * from users u where u.email = ?1", nativeQuery = true)
     Optional<User> findByEmail(String email) throws UsernameNotFoundException;
 
+    /**
+     * Получает текущую версию учетной записи пользователя.
+     *
+     * @param id идентификатор пользователя
+     * @return {@link Optional<Long>} с версией пользователя
+     * или пустой, если пользователь не найден
+     */
+    @Query("select u.version from User u where u.id = ?1")
+    Optional<Long> findVersionById(Long id);
+
     /**
      * Ищет пользователей по имени пользователя или адресу электронной почты.
      *
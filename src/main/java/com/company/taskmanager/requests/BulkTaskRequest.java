@@ -0,0 +1,28 @@
+package com.company.taskmanager.requests;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Набор задач для массового изменения.
+ * <p>
+ * Для задач, указанных в {@code versions}, изменение выполняется только
+ * если текущая версия задачи совпадает с переданной.
+ * </p>
+ */
+@Data
+@Schema(description = "Bulk task request")
+public class BulkTaskRequest {
+
+    @Schema(description = "Идентификаторы задач", example = "[101, 102]")
+    private Set<Long> ids = new LinkedHashSet<>();
+
+    @Schema(description = "Ожидаемые версии задач по идентификатору",
+            example = "{\"101\": 3}")
+    private Map<Long, Long> versions = new HashMap<>();
+}
@@ -0,0 +1,54 @@
+package com.company.taskmanager.requests;
+
+import com.company.taskmanager.models.task.Priority;
+import com.company.taskmanager.models.task.Status;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.util.Date;
+
+/**
+ * Параметры фильтрации списка задач.
+ * <p>
+ * Все параметры необязательны и объединяются по условию "И".
+ * Даты передаются в формате ISO-8601, границы диапазонов включаются
+ * в выборку.
+ * </p>
+ */
+@Data
+@Schema(description = "Task filter request")
+public class TaskFilterRequest {
+
+    @Schema(description = "Имя автора задачи (username)", example = "Nikolay")
+    private String username;
+
+    @Schema(description = "Имя исполнителя задачи (username)", example = "Pavel")
+    private String executor;
+
+    @Schema(description = "Статус задачи", example = "DONE")
+    private Status status;
+
+    @Schema(description = "Приоритет задачи", example = "HIGH")
+    private Priority priority;
+
+    @Schema(description = "Задачи, созданные не раньше указанной даты",
+            example = "2024-08-01T00:00:00Z")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Date createdFrom;
+
+    @Schema(description = "Задачи, созданные не позже указанной даты",
+            example = "2024-08-31T23:59:59Z")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Date createdTo;
+
+    @Schema(description = "Задачи, обновленные не раньше указанной даты",
+            example = "2024-08-01T00:00:00Z")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Date updatedFrom;
+
+    @Schema(description = "Задачи, обновленные не позже указанной даты",
+            example = "2024-08-31T23:59:59Z")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Date updatedTo;
+}
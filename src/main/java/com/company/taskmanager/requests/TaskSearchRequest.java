@@ -0,0 +1,31 @@
+package com.company.taskmanager.requests;
+
+import com.company.taskmanager.models.task.Priority;
+import com.company.taskmanager.models.task.Status;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * Параметры полнотекстового поиска задач.
+ * <p>
+ * Каждое слово запроса ищется по префиксу в заголовке, описании
+ * и комментариях задачи, слова объединяются по условию "И". Фильтры
+ * необязательны и объединяются с запросом по условию "И".
+ * </p>
+ */
+@Data
+@Schema(description = "Task search request")
+public class TaskSearchRequest {
+
+    @Schema(description = "Текст запроса", example = "утечка ванн")
+    private String q;
+
+    @Schema(description = "Статус задачи", example = "IN_PROCESS")
+    private Status status;
+
+    @Schema(description = "Приоритет задачи", example = "CRITICAL")
+    private Priority priority;
+
+    @Schema(description = "Имя автора задачи (username)", example = "Nikolay")
+    private String author;
+}
@@ -0,0 +1,49 @@
+package com.company.taskmanager.services.cache;
+
+import com.company.taskmanager.dtos.CacheStatsDto;
+
+import java.util.Collection;
+
+/**
+ * Сервис кэша второго уровня Hibernate.
+ * Предоставляет статистику кэшей и сброс записей, измененных
+ * в обход Hibernate.
+ */
+public interface EntityCacheService {
+
+    /**
+     * Получает статистику регионов кэша второго уровня, кэша запросов
+     * и кэша пользователей.
+     *
+     * @return DTO со статистикой кэшей
+     */
+    CacheStatsDto getStats();
+
+    /**
+     * Сбрасывает из кэша задачи, их коллекции, комментарии и результаты
+     * запросов. Вызывается после удаления пользователя: его задачи,
+     * комментарии и назначения удаляются каскадно базой данных.
+     */
+    void evictUserData();
+
+    /**
+     * Сбрасывает из кэша коллекции исполнителей задач. Вызывается после
+     * изменения таблицы {@code task_executors} запросом в обход сущностей.
+     * Внутри транзакции коллекции сбрасываются сразу и повторно после ее
+     * фиксации: иначе параллельная транзакция могла бы поместить в кэш
+     * коллекцию, прочитанную до фиксации изменения.
+     *
+     * @param taskIds идентификаторы задач
+     */
+    void evictExecutors(Collection<Long> taskIds);
+
+    /**
+     * Сбрасывает из кэша задачу и результаты запросов. Вызывается после
+     * изменения строки задачи запросом SQL, который не сбрасывает кэш сам.
+     * Внутри транзакции записи сбрасываются сразу и повторно после ее
+     * фиксации.
+     *
+     * @param taskId идентификатор задачи
+     */
+    void evictTask(Long taskId);
+}
@@ -0,0 +1,152 @@
+package com.company.taskmanager.services.cache;
+
+import com.company.taskmanager.config.HibernateCacheConfig;
+import com.company.taskmanager.dtos.CacheRegionStatsDto;
+import com.company.taskmanager.dtos.CacheStatsDto;
+import com.company.taskmanager.models.task.Task;
+import com.company.taskmanager.models.task.Task_;
+import com.company.taskmanager.services.user.cache.CaffeineUserCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.cache.CacheManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Реализация сервиса кэша второго уровня Hibernate.
+ * <p>
+ * Счетчики обращений берутся из статистики Hibernate и накапливаются,
+ * только если включено свойство {@code hibernate.generate_statistics};
+ * без нее регионы сообщают только размер. Размер регионов берется
+ * из кэшей Caffeine.
+ * </p>
+ */
+@Service
+public class EntityCacheServiceImpl implements EntityCacheService {
+    private static final String EXECUTORS_ROLE =
+            Task.class.getName() + "." + Task_.EXECUTORS;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private CacheManager hibernateCacheManager;
+    @Autowired
+    private CaffeineUserCache userCache;
+
+    @Override
+    public CacheStatsDto getStats() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory
+                .unwrap(SessionFactoryImplementor.class);
+        Statistics statistics = sessionFactory.getStatistics();
+        boolean counted = statistics.isStatisticsEnabled();
+        List<String> regions = new ArrayList<>(HibernateCacheConfig.TASK_REGIONS);
+        regions.add(HibernateCacheConfig.USER_REGION);
+        regions.add(HibernateCacheConfig.COMMENT_REGION);
+
+        CacheStatsDto stats = new CacheStatsDto();
+        for (String region : regions) {
+            if (sessionFactory.getCache().getRegion(region) == null) {
+                // Кэш второго уровня отключен
+                continue;
+            }
+            if (!counted) {
+                stats.getRegions().add(regionSize(region));
+                continue;
+            }
+            CacheRegionStatistics regionStatistics =
+                    statistics.getDomainDataRegionStatistics(region);
+            stats.getRegions().add(regionStats(region,
+                    regionStatistics.getHitCount(),
+                    regionStatistics.getMissCount(),
+                    regionStatistics.getPutCount()));
+        }
+        String queries = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+        stats.setQueries(counted
+                ? regionStats(queries,
+                        statistics.getQueryCacheHitCount(),
+                        statistics.getQueryCacheMissCount(),
+                        statistics.getQueryCachePutCount())
+                : regionSize(queries));
+        stats.setUsers(userCache.stats());
+        return stats;
+    }
+
+    @Override
+    public void evictUserData() {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        HibernateCacheConfig.TASK_REGIONS.forEach(cache::evictRegion);
+        cache.evictRegion(HibernateCacheConfig.COMMENT_REGION);
+        cache.evictQueryRegions();
+    }
+
+    @Override
+    public void evictExecutors(Collection<Long> taskIds) {
+        List<Long> ids = List.copyOf(taskIds);
+        nowAndAfterCommit(() -> evictExecutorCollections(ids));
+    }
+
+    @Override
+    public void evictTask(Long taskId) {
+        nowAndAfterCommit(() -> {
+            Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+            cache.evictEntityData(Task.class, taskId);
+            cache.evictQueryRegions();
+        });
+    }
+
+    /**
+     * Выполняет сброс сразу и, внутри транзакции, повторно после ее
+     * фиксации: иначе параллельная транзакция могла бы поместить в кэш
+     * данные, прочитанные до фиксации изменения.
+     *
+     * @param eviction сброс записей кэша
+     */
+    private static void nowAndAfterCommit(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            eviction.run();
+                        }
+                    });
+        }
+    }
+
+    private void evictExecutorCollections(Collection<Long> ids) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        ids.forEach(id -> cache.evictCollectionData(EXECUTORS_ROLE, id));
+    }
+
+    private CacheRegionStatsDto regionStats(String region, long hitCount,
+                                            long missCount, long putCount) {
+        long total = hitCount + missCount;
+        // Без обращений доля попаданий не определена
+        Double hitRate = total == 0 ? null : (double) hitCount / total;
+        return new CacheRegionStatsDto(region, hitCount, missCount, putCount,
+                size(region), hitRate);
+    }
+
+    private CacheRegionStatsDto regionSize(String region) {
+        return new CacheRegionStatsDto(region, null, null, null,
+                size(region), null);
+    }
+
+    private long size(String region) {
+        return hibernateCacheManager.getCache(region)
+                .unwrap(com.github.benmanes.caffeine.cache.Cache.class)
+                .estimatedSize();
+    }
+}
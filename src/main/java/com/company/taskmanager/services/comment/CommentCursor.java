@@ -0,0 +1,61 @@
+package com.company.taskmanager.services.comment;
+
+import com.company.taskmanager.exceptions.BadRequestException;
+import com.company.taskmanager.utils.CursorCodec;
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * Курсор для постраничного просмотра комментариев задачи по ключу
+ * ({@code created_at}, {@code id}) от старых к новым.
+ * <p>
+ * Клиент получает курсор в виде непрозрачной строки и передает его
+ * обратно для получения следующей страницы.
+ * </p>
+ */
+@Value
+public class CommentCursor {
+
+    /**
+     * Дата создания последнего комментария на предыдущей странице.
+     */
+    Instant timestamp;
+
+    /**
+     * Идентификатор последнего комментария на предыдущей странице.
+     */
+    Long id;
+
+    /**
+     * Создает курсор, указывающий на начало списка комментариев.
+     *
+     * @return курсор первой страницы
+     */
+    public static CommentCursor first() {
+        return new CommentCursor(Instant.EPOCH, 0L);
+    }
+
+    /**
+     * Кодирует курсор в непрозрачную строку.
+     *
+     * @return строковое представление курсора
+     */
+    public String encode() {
+        return CursorCodec.encode(timestamp.getEpochSecond(),
+                timestamp.getNano(), id);
+    }
+
+    /**
+     * Декодирует курсор, полученный от клиента.
+     *
+     * @param value строковое представление курсора
+     * @return курсор
+     * @throws BadRequestException если курсор поврежден
+     */
+    public static CommentCursor decode(String value) {
+        return CursorCodec.decode(value, 3, parts -> new CommentCursor(
+                CursorCodec.parseInstant(parts[0], parts[1]),
+                Long.parseLong(parts[2])));
+    }
+}
@@ -1,6 +1,11 @@
 package com.company.taskmanager.services.comment;
 
 import com.company.taskmanager.models.comment.Comment;
+import com.company.taskmanager.models.user.User;
+import com.company.taskmanager.repositories.comment.CommentView;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Сервисный интерфейс для управления комментариями.
@@ -28,6 +33,20 @@ public interface CommentService {
      */
     Comment createComment(Comment comment);
 
+    /**
+     * Добавляет комментарий к задаче одной вставкой, не загружая задачу.
+     *
+     * @param taskId идентификатор задачи
+     * @param user   автор комментария
+     * @param text   текст комментария
+     * @return созданный комментарий {@link Comment}
+     * @throws com.company.taskmanager.exceptions.BadRequestException
+     *         если текст пуст или длиннее {@link Comment#MAX_TEXT_LENGTH}
+     * @throws com.company.taskmanager.exceptions.ResourceNotFoundException
+     *         если задача не найдена
+     */
+    Comment addComment(Long taskId, User user, String text);
+
     /**
      * Обновляет информацию о существующем комментарии.
      *
@@ -37,6 +56,28 @@ public interface CommentService {
      */
     Comment updateComment(Long id, Comment comment);
 
+    /**
+     * Получает комментарии нескольких задач одним запросом.
+     *
+     * @param taskIds идентификаторы задач
+     * @return список проекций {@link CommentView}
+     */
+    List<CommentView> getCommentViewsByTaskIds(Collection<Long> taskIds);
+
+    /**
+     * Получает страницу комментариев задачи по курсору
+     * от старых к новым.
+     *
+     * @param taskId идентификатор задачи
+     * @param cursor курсор страницы
+     * @param limit  максимальное количество комментариев
+     * @return список проекций {@link CommentView}
+     * @throws com.company.taskmanager.exceptions.ResourceNotFoundException
+     *         если задача не найдена
+     */
+    List<CommentView> getCommentPage(Long taskId, CommentCursor cursor,
+                                     int limit);
+
     /**
      * Удаляет комментарий по его уникальному идентификатору.
      *
@@ -1,9 +1,25 @@
 package com.company.taskmanager.services.comment;
 
+import com.company.taskmanager.exceptions.BadRequestException;
+import com.company.taskmanager.exceptions.ResourceNotFoundException;
 import com.company.taskmanager.models.comment.Comment;
+import com.company.taskmanager.models.task.Task;
+import com.company.taskmanager.models.user.User;
 import com.company.taskmanager.repositories.comment.CommentRepository;
+import com.company.taskmanager.repositories.comment.CommentView;
+import com.company.taskmanager.services.task.search.TaskSearchIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Сервисный класс для управления комментариями.
@@ -11,7 +27,10 @@ import org.springframework.stereotype.Service;
  * Этот сервис предоставляет методы:
  * - Получить комментарий по его уникальному идентификатору.
  * - Создать новый комментарий.
+ * - Добавить комментарий к задаче без загрузки задачи.
  * - Обновить существующий комментарий.
+ * - Получить комментарии нескольких задач.
+ * - Получить страницу комментариев задачи по курсору.
  * - Удалить комментарий по его идентификатору.
  * </p>
  * <p>
@@ -24,6 +43,23 @@ public class CommentServiceImpl implements CommentService {
     @Autowired
     private CommentRepository commentRepository;
 
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transaction;
+
+    /**
+     * Конструктор сервиса комментариев.
+     *
+     * @param transactionManager менеджер транзакций
+     */
+    public CommentServiceImpl(PlatformTransactionManager transactionManager) {
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
     /**
      * Получает комментарий по его уникальному идентификатору.
      *
@@ -42,7 +78,57 @@ public class CommentServiceImpl implements CommentService {
      * @return созданная сущность комментария.
      */
     public Comment createComment(Comment comment) {
-        return commentRepository.save(comment);
+        Comment savedComment = commentRepository.save(comment);
+        taskChanged(savedComment);
+        return savedComment;
+    }
+
+    /**
+     * Добавляет комментарий к задаче.
+     * <p>
+     * Задача и автор подставляются ссылками по идентификатору, поэтому
+     * выполняется только вставка строки комментария: ни задача, ни ее
+     * комментарии не загружаются, и время записи не зависит от их количества.
+     * Комментарий сохраняется через {@code persist}, а не {@code save}:
+     * из-за заранее заданной версии {@code save} выполнил бы {@code merge}
+     * с дополнительным чтением. Существование задачи проверяется внешним
+     * ключом при вставке, поэтому в "не найдено" превращается только
+     * нарушение этого ключа; текст проверяется заранее.
+     * </p>
+     *
+     * @param taskId идентификатор задачи.
+     * @param user   автор комментария.
+     * @param text   текст комментария.
+     * @return созданная сущность комментария.
+     * @throws BadRequestException       если текст пуст или слишком длинный.
+     * @throws ResourceNotFoundException если задача не найдена.
+     */
+    public Comment addComment(Long taskId, User user, String text) {
+        if (text == null || text.isBlank()) {
+            throw new BadRequestException("Comment text must not be blank");
+        }
+        if (text.length() > Comment.MAX_TEXT_LENGTH) {
+            throw new BadRequestException("Comment text must not exceed "
+                    + Comment.MAX_TEXT_LENGTH + " characters");
+        }
+        Comment comment = Comment.builder()
+                .text(text)
+                .task(entityManager.getReference(Task.class, taskId))
+                .user(entityManager.getReference(User.class, user.getId()))
+                .build();
+        try {
+            return transaction.execute(status -> {
+                entityManager.persist(comment);
+                entityManager.flush();
+                taskSearchIndex.tasksChanged(List.of(taskId));
+                return comment;
+            });
+        } catch (ConstraintViolationException e) {
+            if (Comment.TASK_FOREIGN_KEY.equalsIgnoreCase(e.getConstraintName())) {
+                throw new ResourceNotFoundException("Task not found");
+            }
+            throw e;
+        }
     }
 
     /**
@@ -55,7 +141,46 @@ public class CommentServiceImpl implements CommentService {
     public Comment updateComment(Long id, Comment comment) {
         Comment existingComment = getCommentById(id);
         existingComment.setText(comment.getText());
-        return commentRepository.save(existingComment);
+        Comment savedComment = commentRepository.save(existingComment);
+        taskChanged(savedComment);
+        return savedComment;
+    }
+
+    /**
+     * Получает комментарии нескольких задач одним запросом.
+     *
+     * @param taskIds идентификаторы задач.
+     * @return список проекций комментариев.
+     */
+    public List<CommentView> getCommentViewsByTaskIds(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return List.of();
+        }
+        return commentRepository.findViewsByTaskIdIn(taskIds);
+    }
+
+    /**
+     * Получает страницу комментариев задачи по курсору.
+     * <p>
+     * Существование задачи проверяется, только если страница пуста:
+     * непустая страница уже подтверждает, что задача есть.
+     * </p>
+     *
+     * @param taskId идентификатор задачи.
+     * @param cursor курсор страницы.
+     * @param limit  максимальное количество комментариев.
+     * @return список проекций комментариев.
+     * @throws ResourceNotFoundException если задача не найдена.
+     */
+    public List<CommentView> getCommentPage(Long taskId, CommentCursor cursor,
+                                            int limit) {
+        List<CommentView> page = commentRepository.findPageByTaskId(taskId,
+                Timestamp.from(cursor.getTimestamp()), cursor.getId(),
+                Limit.of(limit));
+        if (page.isEmpty() && entityManager.find(Task.class, taskId) == null) {
+            throw new ResourceNotFoundException("Task not found");
+        }
+        return page;
     }
 
     /**
@@ -64,6 +189,20 @@ public class CommentServiceImpl implements CommentService {
      * @param id уникальный идентификатор удаляемого комментария.
      */
     public void deleteComment(Long id) {
-        commentRepository.deleteById(id);
+        commentRepository.findById(id).ifPresent(comment -> {
+            commentRepository.delete(comment);
+            taskChanged(comment);
+        });
+    }
+
+    /**
+     * Сообщает поисковому индексу об изменении комментариев задачи.
+     *
+     * @param comment измененный комментарий.
+     */
+    private void taskChanged(Comment comment) {
+        if (comment.getTask() != null) {
+            taskSearchIndex.tasksChanged(List.of(comment.getTask().getId()));
+        }
     }
 }
@@ -1,22 +1,33 @@
 package com.company.taskmanager.services.jwt;
 
 import com.company.taskmanager.exceptions.JwtExpiredException;
+import com.company.taskmanager.models.user.Role;
 import com.company.taskmanager.models.user.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Сервисный класс для обработки операций JWT (JSON Web Token)
@@ -30,6 +41,12 @@ import java.util.function.Function;
  * - Проверка токена, чтобы убедиться, что он все еще действителен и соответствует
  * данные пользователя.
  * - Обработка подписания и истечения срока действия токена.
+ * <p>
+ * Ключ подписи и парсер создаются один раз при старте. Результаты проверки
+ * токенов хранятся в ограниченном кэше (ключ — SHA-256 от токена) до момента
+ * истечения срока их действия, поэтому повторные запросы с тем же токеном
+ * не выполняют повторную проверку подписи.
+ * </p>
  */
 @Service
 public class JwtService {
@@ -39,6 +56,55 @@ public class JwtService {
     @Value("${TOKEN_EXPIRATION}")
     private long jwtExpiration;
 
+    @Value("${jwt.cache.max-size}")
+    private long cacheMaxSize;
+
+    private Key signingKey;
+
+    private JwtParser jwtParser;
+
+    private Cache<String, VerifiedClaims> verifiedTokens;
+
+    /**
+     * Инициализация ключа подписи, парсера и кэша проверенных токенов.
+     */
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSigningKey));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedClaims>() {
+                    @Override
+                    public long expireAfterCreate(String key,
+                                                  VerifiedClaims claims,
+                                                  long currentTime) {
+                        long millis = claims.getExpiration().toEpochMilli()
+                                - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(millis, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key,
+                                                  VerifiedClaims claims,
+                                                  long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key,
+                                                VerifiedClaims claims,
+                                                long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
     /**
      * Извлечение имени пользователя из токена
      *
@@ -46,22 +112,31 @@ public class JwtService {
      * @return username
      */
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).getSubject();
     }
 
-
     /**
-     * Извлечение данных из токена
+     * Проверка подписи и разбор токена. Результат кэшируется до истечения
+     * срока действия токена.
      *
-     * @param token           токен
-     * @param claimsResolvers функция извлечения данных
-     * @param <T>             тип данных
-     * @return тип данных
+     * @param token токен
+     * @return проверенные данные токена
+     * @throws JwtExpiredException если срок действия токена истек
      */
-    private <T> T extractClaim(String token,
-                               Function<Claims, T> claimsResolvers) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolvers.apply(claims);
+    public VerifiedClaims verify(String token) {
+        String key = hash(token);
+        VerifiedClaims cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            if (!cached.isExpired()) {
+                return cached;
+            }
+            verifiedTokens.invalidate(key);
+        }
+        VerifiedClaims claims = toVerifiedClaims(extractAllClaims(token));
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(key, claims);
+        }
+        return claims;
     }
 
     /**
@@ -76,6 +151,7 @@ public class JwtService {
             claims.put("id", customUserDetails.getId());
             claims.put("email", customUserDetails.getEmail());
             claims.put("role", customUserDetails.getRole());
+            claims.put("ver", customUserDetails.getVersion());
         }
         return generateToken(claims, userDetails);
     }
@@ -94,42 +170,53 @@ public class JwtService {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
 
     /**
-     * Проверка действительности токена
+     * Построение пользователя напрямую из проверенных данных токена,
+     * без обращения к базе данных.
      *
-     * @param token       токен
-     * @param userDetails данные пользователя
-     * @return true, если токен действителен
+     * @param claims проверенные данные токена
+     * @return пользователь или {@code null}, если в токене недостаточно данных
      */
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String userName = extractUsername(token);
-        return (userName.equals(userDetails.getUsername()))
-                && !isTokenExpired(token);
+    public User buildPrincipal(VerifiedClaims claims) {
+        if (claims.getUserId() == null || claims.getVersion() == null
+                || claims.getRole() == null) {
+            return null;
+        }
+        return User.builder()
+                .id(claims.getUserId())
+                .username(claims.getSubject())
+                .email(claims.getEmail())
+                .role(Role.valueOf(claims.getRole()))
+                .version(claims.getVersion())
+                .build();
     }
 
     /**
-     * Проверьте токен на истечение срока действия.
+     * Проверка действительности токена
      *
-     * @param token токен
-     * @return true, если срок действия токена истек
+     * @param token       токен
+     * @param userDetails данные пользователя
+     * @return true, если токен действителен
      */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean isTokenValid(String token, UserDetails userDetails) {
+        return isTokenValid(verify(token), userDetails);
     }
 
     /**
-     * Извлечение даты истечения срока действия токена
+     * Проверка действительности уже разобранного токена
      *
-     * @param token токен
-     * @return дата истечения срока действия
+     * @param claims      проверенные данные токена
+     * @param userDetails данные пользователя
+     * @return true, если токен действителен
      */
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public boolean isTokenValid(VerifiedClaims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername())
+                && !claims.isExpired();
     }
 
     /**
@@ -140,11 +227,7 @@ public class JwtService {
      */
     private Claims extractAllClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             throw new JwtExpiredException("Token lifetime is over: "
                     + e.getMessage());
@@ -152,13 +235,50 @@ public class JwtService {
     }
 
     /**
-     * Получение ключа для подписи токенов
+     * Преобразование данных токена в неизменяемый объект
      *
-     * @return key
+     * @param claims данные токена
+     * @return проверенные данные токена
      */
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtSigningKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private VerifiedClaims toVerifiedClaims(Claims claims) {
+        Object id = claims.get("id");
+        Object role = claims.get("role");
+        Object version = claims.get("ver");
+        return VerifiedClaims.builder()
+                .subject(claims.getSubject())
+                .userId(id instanceof Number number ? number.longValue() : null)
+                .email(claims.get("email", String.class))
+                .role(role != null ? role.toString() : null)
+                .version(version instanceof Number number ? number.longValue() : null)
+                .issuedAt(toInstant(claims.getIssuedAt()))
+                .expiration(toInstant(claims.getExpiration()))
+                .build();
+    }
+
+    /**
+     * Преобразование даты из токена в неизменяемый момент времени
+     *
+     * @param date дата или {@code null}
+     * @return момент времени или {@code null}
+     */
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
+
+    /**
+     * Вычисление ключа кэша для токена
+     *
+     * @param token токен
+     * @return SHA-256 от токена в Base64
+     */
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(
+                    digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     /**
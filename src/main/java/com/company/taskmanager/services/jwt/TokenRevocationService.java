@@ -0,0 +1,120 @@
+package com.company.taskmanager.services.jwt;
+
+import com.company.taskmanager.repositories.user.UserRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Сервис проверки отзыва JWT-токенов для режима доверия claims.
+ * <p>
+ * Токен считается действительным, только если версия учетной записи,
+ * записанная в токен при выпуске, совпадает с текущей версией пользователя.
+ * Удаление пользователя или изменение его учетной записи делает все ранее
+ * выпущенные токены недействительными.
+ * </p>
+ * <p>
+ * Отдельного признака отключенной учетной записи в системе нет
+ * ({@link com.company.taskmanager.models.user.User#isEnabled()} всегда
+ * возвращает {@code true}), поэтому токен отзывается только удалением
+ * пользователя или изменением, увеличивающим версию учетной записи.
+ * </p>
+ * <p>
+ * Текущие версии пользователей кэшируются на короткое время, поэтому
+ * проверка не требует обращения к базе данных на каждый запрос.
+ * Кэш асинхронный: при промахе в кэш помещается незавершенная загрузка
+ * версии, выполняемая в исполнителе кэша. Сброс, пришедший во время
+ * загрузки, удаляет ее из кэша, и загруженное значение не сохраняется,
+ * поэтому устаревшая версия не возвращается в кэш. Запрос к базе данных
+ * не выполняется под блокировкой кэша: ожидающий загрузку виртуальный
+ * поток паркуется, а не закрепляется за потоком платформы.
+ * </p>
+ * <p>
+ * Сброс версии внутри транзакции откладывается до ее фиксации, иначе
+ * параллельная проверка успела бы загрузить прежнюю версию.
+ * </p>
+ */
+@Service
+public class TokenRevocationService {
+    private final UserRepository userRepository;
+
+    private final AsyncCache<Long, Optional<Long>> versions;
+
+    /**
+     * Конструктор сервиса проверки отзыва токенов.
+     *
+     * @param userRepository репозиторий пользователей
+     * @param checkTtl       время хранения версии пользователя в кэше
+     * @param maxSize        максимальное количество пользователей в кэше
+     */
+    public TokenRevocationService(
+            UserRepository userRepository,
+            @Value("${jwt.claims-trusted.revocation-check-ttl}") Duration checkTtl,
+            @Value("${jwt.cache.max-size}") long maxSize) {
+        this.userRepository = userRepository;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(checkTtl)
+                .buildAsync();
+    }
+
+    /**
+     * Проверяет, что токен не отозван.
+     *
+     * @param claims проверенные данные токена
+     * @return true, если пользователь существует и версия его учетной
+     * записи совпадает с версией в токене
+     */
+    public boolean isActive(VerifiedClaims claims) {
+        if (claims.getUserId() == null || claims.getVersion() == null) {
+            return false;
+        }
+        return currentVersion(claims.getUserId())
+                .map(version -> version.equals(claims.getVersion()))
+                .orElse(false);
+    }
+
+    /**
+     * Возвращает текущую версию учетной записи пользователя из кэша или,
+     * при промахе, из базы данных.
+     *
+     * @param userId идентификатор пользователя
+     * @return версия учетной записи или пустой результат, если
+     * пользователь не найден
+     */
+    private Optional<Long> currentVersion(Long userId) {
+        return versions.get(userId, (id, executor) -> CompletableFuture.supplyAsync(
+                () -> userRepository.findVersionById(id), executor)).join();
+    }
+
+    /**
+     * Сбрасывает сохраненную версию пользователя, чтобы следующая
+     * проверка получила актуальное значение из базы данных. Внутри
+     * транзакции версия сбрасывается после ее фиксации.
+     *
+     * @param userId идентификатор пользователя
+     */
+    public void revoke(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            versions.synchronous().invalidate(userId);
+                        }
+                    });
+        } else {
+            versions.synchronous().invalidate(userId);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.company.taskmanager.services.jwt;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * Неизменяемый набор данных, извлеченных из JWT-токена после
+ * проверки подписи.
+ * <p>
+ * Экземпляр создается один раз при разборе токена в {@link JwtService}
+ * и может безопасно переиспользоваться между запросами и потоками.
+ * </p>
+ */
+@Value
+@Builder
+public class VerifiedClaims {
+
+    /**
+     * Имя пользователя (subject токена).
+     */
+    String subject;
+
+    /**
+     * Идентификатор пользователя (claim {@code id}).
+     */
+    Long userId;
+
+    /**
+     * Email пользователя (claim {@code email}).
+     */
+    String email;
+
+    /**
+     * Роль пользователя (claim {@code role}).
+     */
+    String role;
+
+    /**
+     * Версия учетной записи пользователя на момент выпуска токена
+     * (claim {@code ver}).
+     */
+    Long version;
+
+    /**
+     * Момент выпуска токена.
+     */
+    Instant issuedAt;
+
+    /**
+     * Момент истечения срока действия токена.
+     */
+    Instant expiration;
+
+    /**
+     * Проверяет, истек ли срок действия токена на текущий момент.
+     *
+     * @return true, если срок действия токена истек
+     */
+    public boolean isExpired() {
+        return expiration != null && expiration.isBefore(Instant.now());
+    }
+}
@@ -0,0 +1,91 @@
+package com.company.taskmanager.services.task;
+
+import com.company.taskmanager.exceptions.BadRequestException;
+import com.company.taskmanager.utils.CursorCodec;
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * Курсор для постраничного просмотра ленты задач по ключу
+ * ({@code created_at} или {@code updated_at}, {@code id}).
+ * <p>
+ * Клиент получает курсор в виде непрозрачной строки и передает его
+ * обратно для получения следующей страницы. Стоимость запроса не зависит
+ * от глубины страницы, так как база данных продолжает чтение индекса
+ * сразу с позиции курсора.
+ * </p>
+ */
+@Value
+public class TaskCursor {
+
+    /**
+     * Поле, по которому упорядочена лента.
+     */
+    public enum Order {
+        /**
+         * По дате создания задачи.
+         */
+        CREATED,
+        /**
+         * По дате последнего обновления задачи.
+         */
+        UPDATED
+    }
+
+    /**
+     * Поле, по которому упорядочена лента.
+     */
+    Order order;
+
+    /**
+     * Значение даты последней задачи на предыдущей странице.
+     */
+    Instant timestamp;
+
+    /**
+     * Идентификатор последней задачи на предыдущей странице.
+     */
+    Long id;
+
+    /**
+     * Создает курсор, указывающий на начало ленты.
+     *
+     * @param order поле, по которому упорядочена лента
+     * @return курсор первой страницы
+     */
+    public static TaskCursor first(Order order) {
+        return new TaskCursor(order, Instant.parse("9999-12-31T23:59:59Z"),
+                Long.MAX_VALUE);
+    }
+
+    /**
+     * Кодирует курсор в непрозрачную строку.
+     *
+     * @return строковое представление курсора
+     */
+    public String encode() {
+        return CursorCodec.encode(order.name(), timestamp.getEpochSecond(),
+                timestamp.getNano(), id);
+    }
+
+    /**
+     * Декодирует курсор, полученный от клиента.
+     *
+     * @param value строковое представление курсора
+     * @param order ожидаемое поле упорядочивания ленты
+     * @return курсор
+     * @throws BadRequestException если курсор поврежден или выдан
+     *                             для другого порядка ленты
+     */
+    public static TaskCursor decode(String value, Order order) {
+        return CursorCodec.decode(value, 4, parts -> {
+            if (Order.valueOf(parts[0]) != order) {
+                throw CursorCodec.invalid();
+            }
+            return new TaskCursor(order,
+                    CursorCodec.parseInstant(parts[1], parts[2]),
+                    Long.parseLong(parts[3]));
+        });
+    }
+}
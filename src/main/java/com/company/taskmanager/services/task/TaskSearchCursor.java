@@ -0,0 +1,62 @@
+package com.company.taskmanager.services.task;
+
+import com.company.taskmanager.exceptions.BadRequestException;
+import com.company.taskmanager.utils.CursorCodec;
+import lombok.Value;
+
+/**
+ * Курсор для постраничного просмотра результатов поиска задач по ключу
+ * (релевантность, {@code id}) в порядке убывания.
+ * <p>
+ * Релевантность хранится в курсоре в двоичном представлении, поэтому
+ * сравнение со значением, заново вычисленным базой данных, точное.
+ * </p>
+ */
+@Value
+public class TaskSearchCursor {
+
+    /**
+     * Релевантность последней задачи на предыдущей странице.
+     */
+    float rank;
+
+    /**
+     * Идентификатор последней задачи на предыдущей странице.
+     */
+    Long id;
+
+    /**
+     * Создает курсор, указывающий на начало результатов поиска.
+     *
+     * @return курсор первой страницы
+     */
+    public static TaskSearchCursor first() {
+        return new TaskSearchCursor(Float.POSITIVE_INFINITY, Long.MAX_VALUE);
+    }
+
+    /**
+     * Кодирует курсор в непрозрачную строку.
+     *
+     * @return строковое представление курсора
+     */
+    public String encode() {
+        return CursorCodec.encode(Float.floatToIntBits(rank), id);
+    }
+
+    /**
+     * Декодирует курсор, полученный от клиента.
+     *
+     * @param value строковое представление курсора
+     * @return курсор
+     * @throws BadRequestException если курсор поврежден
+     */
+    public static TaskSearchCursor decode(String value) {
+        return CursorCodec.decode(value, 2, parts -> {
+            float rank = Float.intBitsToFloat(Integer.parseInt(parts[0]));
+            if (Float.isNaN(rank)) {
+                throw CursorCodec.invalid();
+            }
+            return new TaskSearchCursor(rank, Long.parseLong(parts[1]));
+        });
+    }
+}
@@ -1,13 +1,23 @@
 package com.company.taskmanager.services.task;
 
 
+import com.company.taskmanager.dtos.TaskDto;
+import com.company.taskmanager.dtos.TaskStatsDto;
 import com.company.taskmanager.models.task.Status;
 import com.company.taskmanager.models.task.Task;
 import com.company.taskmanager.models.user.User;
+import com.company.taskmanager.repositories.task.TaskListView;
+import com.company.taskmanager.repositories.task.TaskSearchView;
+import com.company.taskmanager.requests.TaskFilterRequest;
+import com.company.taskmanager.requests.TaskSearchRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Интерфейс для операций сервиса задач.
@@ -70,6 +80,109 @@ public interface TaskService {
      */
     Page<Task> getTasksByExecutor(String username, Pageable pageable);
 
+    /**
+     * Получает проекции задач для списка задач указанного автора.
+     *
+     * @param user     автор задач
+     * @param pageable объект, содержащий информацию
+     *                 о требуемой странице и размере страницы.
+     * @return страница проекций {@link TaskListView}
+     */
+    Page<TaskListView> getTaskViewsByUser(User user, Pageable pageable);
+
+    /**
+     * Получает проекции задач для списка задач автора по
+     * имени пользователя (username).
+     *
+     * @param username имя пользователя
+     * @param pageable объект, содержащий информацию
+     *                 о требуемой странице и размере страницы.
+     * @return страница проекций {@link TaskListView}
+     */
+    Page<TaskListView> getTaskViewsByUsername(String username, Pageable pageable);
+
+    /**
+     * Получает проекции задач, в которых указанный пользователь
+     * является исполнителем.
+     *
+     * @param username имя пользователя
+     * @param pageable объект, содержащий информацию
+     *                 о требуемой странице и размере страницы.
+     * @return страница проекций {@link TaskListView}
+     */
+    Page<TaskListView> getTaskViewsByExecutor(String username, Pageable pageable);
+
+    /**
+     * Получает проекции задач, удовлетворяющих фильтру.
+     *
+     * @param filter   параметры фильтрации
+     * @param pageable объект, содержащий информацию
+     *                 о требуемой странице, ее размере и сортировке.
+     * @return страница проекций {@link TaskListView}
+     */
+    Page<TaskListView> getTaskViews(TaskFilterRequest filter, Pageable pageable);
+
+    /**
+     * Последовательно передает обработчику все задачи автора вместе
+     * с исполнителями и комментариями, не загружая их в память целиком.
+     *
+     * @param author автор задач
+     * @param action обработчик задачи
+     */
+    void forEachTaskByUser(User author, Consumer<Task> action);
+
+    /**
+     * Последовательно передает обработчику все задачи исполнителя вместе
+     * с исполнителями и комментариями, не загружая их в память целиком.
+     *
+     * @param executor пользователь, указанный в качестве исполнителя
+     * @param action   обработчик задачи
+     */
+    void forEachTaskByExecutor(User executor, Consumer<Task> action);
+
+    /**
+     * Получает страницу ленты задач указанного автора после позиции курсора.
+     *
+     * @param user   автор задач
+     * @param cursor позиция, после которой начинается страница
+     * @param limit  максимальное количество задач
+     * @return список проекций {@link TaskListView}
+     */
+    List<TaskListView> getTaskFeedByUser(User user, TaskCursor cursor, int limit);
+
+    /**
+     * Получает страницу ленты задач, в которых указанный пользователь
+     * является исполнителем, после позиции курсора.
+     *
+     * @param username имя пользователя
+     * @param cursor   позиция, после которой начинается страница
+     * @param limit    максимальное количество задач
+     * @return список проекций {@link TaskListView}
+     */
+    List<TaskListView> getTaskFeedByExecutor(String username,
+                                             TaskCursor cursor, int limit);
+
+    /**
+     * Ищет задачи по тексту заголовка, описания и комментариев
+     * с учетом фильтров и возвращает страницу после позиции курсора
+     * в порядке убывания релевантности.
+     *
+     * @param request параметры поиска
+     * @param cursor  позиция, после которой начинается страница
+     * @param limit   максимальное количество задач
+     * @return список проекций {@link TaskSearchView}
+     */
+    List<TaskSearchView> searchTasks(TaskSearchRequest request,
+                                     TaskSearchCursor cursor, int limit);
+
+    /**
+     * Полностью перестраивает поисковый индекс задач, если он
+     * поддерживается приложением, а не базой данных.
+     *
+     * @return количество проиндексированных задач
+     */
+    long rebuildSearchIndex();
+
     /**
      * Создает новую задачу.
      *
@@ -78,6 +191,84 @@ public interface TaskService {
      */
     Task createTask(Task task);
 
+    /**
+     * Создает задачи указанного автора в одной транзакции, объединяя
+     * вставки в пакеты JDBC. Идентификаторы и комментарии переданных
+     * задач не учитываются.
+     *
+     * @param author автор задач
+     * @param tasks  задачи для создания
+     * @return идентификаторы созданных задач в порядке передачи
+     */
+    List<Long> createTasks(User author, Iterator<Task> tasks);
+
+    /**
+     * Меняет статус задач, в которых пользователь является исполнителем.
+     * Задачи, в которых пользователь не является исполнителем,
+     * пропускаются.
+     *
+     * @param executor исполнитель задач
+     * @param ids      идентификаторы задач
+     * @param versions ожидаемые версии задач по идентификатору
+     * @param status   новый статус
+     * @return идентификаторы задач, к которым применено изменение
+     */
+    List<Long> updateStatuses(User executor, Collection<Long> ids,
+                              Map<Long, Long> versions, Status status);
+
+    /**
+     * Назначает пользователя исполнителем задач автора.
+     * Задачи других авторов пропускаются.
+     *
+     * @param author   автор задач
+     * @param ids      идентификаторы задач
+     * @param versions ожидаемые версии задач по идентификатору
+     * @param executor назначаемый исполнитель
+     * @return идентификаторы задач, к которым применено изменение
+     */
+    List<Long> addExecutor(User author, Collection<Long> ids,
+                           Map<Long, Long> versions, User executor);
+
+    /**
+     * Снимает пользователя с исполнения задач автора.
+     * Задачи других авторов пропускаются.
+     *
+     * @param author   автор задач
+     * @param ids      идентификаторы задач
+     * @param versions ожидаемые версии задач по идентификатору
+     * @param executor снимаемый исполнитель
+     * @return идентификаторы задач, к которым применено изменение
+     */
+    List<Long> deleteExecutor(User author, Collection<Long> ids,
+                              Map<Long, Long> versions, User executor);
+
+    /**
+     * Подсчитывает задачи, в которых пользователь является исполнителем.
+     *
+     * @param executor исполнитель
+     * @return количество задач
+     */
+    long countTasksByExecutor(User executor);
+
+    /**
+     * Подсчитывает созданные и назначенные пользователю задачи
+     * по статусам и приоритетам без загрузки задач.
+     *
+     * @param user пользователь
+     * @return счетчики задач {@link TaskStatsDto}
+     */
+    TaskStatsDto getTaskStats(User user);
+
+    /**
+     * Пересчитывает статистику задач всех пользователей для устранения
+     * расхождений с задачами.
+     *
+     * @return количество строк статистики после пересчета
+     * @throws com.company.taskmanager.exceptions.NotSupportedException
+     *         если база данных не PostgreSQL
+     */
+    long rebuildTaskStats();
+
     /**
      * Обновляет информацию о существующей задаче.
      *
@@ -87,6 +278,50 @@ public interface TaskService {
      */
     Task updateTask(Long id, Task task);
 
+    /**
+     * Обновляет задачу, если пользователь является ее автором.
+     * Задача загружается один раз, а DTO формируется в той же транзакции.
+     *
+     * @param user пользователь, выполняющий изменение
+     * @param id   уникальный идентификатор задачи
+     * @param task обновленные данные задачи
+     * @return задача в виде {@link TaskDto}
+     */
+    TaskDto updateTask(User user, Long id, Task task);
+
+    /**
+     * Меняет статус задачи, если пользователь является ее исполнителем,
+     * одним запросом UPDATE с проверкой версии.
+     *
+     * @param user    пользователь, выполняющий изменение
+     * @param id      уникальный идентификатор задачи
+     * @param status  новый статус задачи
+     * @param version ожидаемая версия задачи или {@code null}, если
+     *                проверять версию не требуется
+     * @return задача в виде {@link TaskDto}
+     */
+    TaskDto updateStatus(User user, Long id, Status status, Long version);
+
+    /**
+     * Добавляет исполнителя к задаче, если пользователь является ее автором.
+     *
+     * @param user     автор задачи
+     * @param id       уникальный идентификатор задачи
+     * @param executor добавляемый исполнитель
+     * @return задача в виде {@link TaskDto}
+     */
+    TaskDto addExecutor(User user, Long id, User executor);
+
+    /**
+     * Удаляет исполнителя из задачи, если пользователь является ее автором.
+     *
+     * @param user     автор задачи
+     * @param id       уникальный идентификатор задачи
+     * @param executor удаляемый исполнитель
+     * @return задача в виде {@link TaskDto}
+     */
+    TaskDto deleteExecutor(User user, Long id, User executor);
+
     /**
      * Удаляет задачу по её уникальному идентификатору.
      *
@@ -1,18 +1,66 @@
 package com.company.taskmanager.services.task;
 
+import com.company.taskmanager.dtos.TaskDto;
+import com.company.taskmanager.dtos.TaskStatsDto;
+import com.company.taskmanager.exceptions.BadRequestException;
+import com.company.taskmanager.exceptions.ConflictException;
+import com.company.taskmanager.exceptions.NotSupportedException;
+import com.company.taskmanager.exceptions.ResourceNotFoundException;
 import com.company.taskmanager.models.comment.Comment;
+import com.company.taskmanager.models.task.Priority;
 import com.company.taskmanager.models.task.Status;
 import com.company.taskmanager.models.task.Task;
+import com.company.taskmanager.models.task.TaskRole;
 import com.company.taskmanager.models.user.User;
+import com.company.taskmanager.repositories.task.TaskExecutorRepository;
+import com.company.taskmanager.repositories.task.TaskListView;
+import com.company.taskmanager.repositories.task.TaskSearchView;
 import com.company.taskmanager.repositories.task.TaskRepository;
+import com.company.taskmanager.repositories.task.TaskSpecifications;
+import com.company.taskmanager.repositories.task.TaskVersionView;
+import com.company.taskmanager.repositories.task.UserTaskStatRepository;
+import com.company.taskmanager.repositories.task.UserTaskStatView;
+import com.company.taskmanager.requests.TaskFilterRequest;
+import com.company.taskmanager.requests.TaskSearchRequest;
+import com.company.taskmanager.services.cache.EntityCacheService;
 import com.company.taskmanager.services.comment.CommentService;
+import com.company.taskmanager.services.task.search.TaskSearchIndex;
 import com.company.taskmanager.services.user.UserService;
+import com.company.taskmanager.utils.TaskMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.MatchResult;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 /**
  * Реализация сервиса для управления задачами.
@@ -26,18 +74,100 @@ import java.util.List;
  * - {@link UserService} для операций, связанных с пользователями.
  * - {@link CommentService} для операций, связанных с комментариями.
  * </p>
+ * <p>
+ * Выгрузка задач ({@code forEachTask...}) читает задачи потоком внутри
+ * транзакции только для чтения и обрабатывает их порциями: исполнители и
+ * комментарии задач порции подгружаются пакетами, а после обработки порции
+ * контекст постоянства очищается, поэтому расход памяти не зависит от
+ * количества задач.
+ * </p>
+ * <p>
+ * Массовое создание задач ({@link #createTasks(User, Iterator)}) сбрасывает
+ * изменения и очищает контекст постоянства каждые {@code batch_size} задач,
+ * так что вставки задач и исполнителей выполняются пакетами JDBC.
+ * </p>
+ * <p>
+ * Массовая смена статуса и исполнителей выполняется без загрузки задач:
+ * права проверяются одним запросом версий, а изменения применяются
+ * запросами UPDATE/INSERT/DELETE по набору идентификаторов. Версия
+ * каждой измененной задачи увеличивается так же, как при сохранении
+ * сущности, а задача, измененная параллельно, приводит к откату всей
+ * операции.
+ * </p>
+ * <p>
+ * Изменение отдельной задачи по запросу пользователя (например,
+ * {@link #addExecutor(User, Long, User)}) загружает задачу один раз,
+ * изменяет ее и формирует DTO в той же транзакции.
+ * </p>
  */
 @Service
 public class TaskServiceImpl implements TaskService {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TaskExecutorRepository taskExecutorRepository;
+
+    @Autowired
+    private UserTaskStatRepository userTaskStatRepository;
+
     @Autowired
     private UserService userService;
 
     @Autowired
     private CommentService commentService;
 
+    @Autowired
+    private TaskMapper taskMapper;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private EntityCacheService entityCacheService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transaction;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    /**
+     * Количество задач, обрабатываемых между очистками контекста
+     * постоянства при выгрузке.
+     */
+    private static final int EXPORT_CHUNK_SIZE = 100;
+
+    /**
+     * Максимальное количество задач в одной массовой операции.
+     */
+    static final int BULK_MAX_SIZE = 1000;
+
+    /**
+     * Слово поискового запроса.
+     */
+    private static final Pattern SEARCH_TERM = Pattern.compile("[\\p{L}\\p{N}]+");
+
+    /**
+     * Максимальное количество слов поискового запроса.
+     */
+    private static final int MAX_SEARCH_TERMS = 16;
+
+    /**
+     * Конструктор сервиса задач.
+     *
+     * @param transactionManager менеджер транзакций
+     */
+    public TaskServiceImpl(PlatformTransactionManager transactionManager) {
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
     /**
      * Получает задачу по уникальному идентификатору.
      *
@@ -57,7 +187,7 @@ public class TaskServiceImpl implements TaskService {
      * @return список задач с указанным статусом.
      */
     public Page<Task> getTasksByStatus(Status status, Pageable pageable) {
-        return taskRepository.findByStatus(status, pageable);
+        return taskRepository.findPageByStatus(status, pageable);
     }
 
     /**
@@ -67,7 +197,7 @@ public class TaskServiceImpl implements TaskService {
      * @return список задач, назначенных указанному пользователю.
      */
     public Page<Task> getTasksByUser(User user, Pageable pageable) {
-        return taskRepository.findByAuthor(user, pageable);
+        return taskRepository.findPageByAuthor(user, pageable);
     }
 
     /**
@@ -78,7 +208,7 @@ public class TaskServiceImpl implements TaskService {
      */
     public Page<Task> getTasksByUsername(String username, Pageable pageable) {
         User user = userService.getUserByUsername(username);
-        return taskRepository.findByAuthor(user, pageable);
+        return taskRepository.findPageByAuthor(user, pageable);
     }
 
     /**
@@ -89,7 +219,336 @@ public class TaskServiceImpl implements TaskService {
      */
     public Page<Task> getTasksByExecutor(String username, Pageable pageable) {
         User user = userService.getUserByUsername(username);
-        return taskRepository.findByExecutorsContaining(user, pageable);
+        return taskRepository.findPageByExecutor(user, pageable);
+    }
+
+    /**
+     * Получает проекции задач указанного автора.
+     *
+     * @param user автор задач.
+     * @return страница проекций задач.
+     */
+    public Page<TaskListView> getTaskViewsByUser(User user, Pageable pageable) {
+        return taskRepository.findViewsByAuthor(user, pageable);
+    }
+
+    /**
+     * Получает проекции задач автора по его имени пользователя.
+     *
+     * @param username имя пользователя автора.
+     * @return страница проекций задач.
+     */
+    public Page<TaskListView> getTaskViewsByUsername(String username,
+                                                     Pageable pageable) {
+        User user = userService.getUserByUsername(username);
+        return taskRepository.findViewsByAuthor(user, pageable);
+    }
+
+    /**
+     * Получает проекции задач, в которых указанный пользователь
+     * является исполнителем.
+     *
+     * @param username имя пользователя исполнителя.
+     * @return страница проекций задач.
+     */
+    public Page<TaskListView> getTaskViewsByExecutor(String username,
+                                                     Pageable pageable) {
+        User user = userService.getUserByUsername(username);
+        return PageableExecutionUtils.getPage(
+                taskRepository.findViewListByExecutor(user, pageable),
+                pageable, () -> countTasksByExecutor(user));
+    }
+
+    /**
+     * Подсчитывает задачи, в которых пользователь является исполнителем.
+     * Используется количество, поддерживаемое триггерами, а при его
+     * отсутствии - подсчет по таблице назначений.
+     *
+     * @param executor исполнитель.
+     * @return количество задач.
+     */
+    public long countTasksByExecutor(User executor) {
+        if (executor == null) {
+            return 0;
+        }
+        return taskExecutorRepository.findAssignedCount(executor.getId())
+                .orElseGet(() -> taskExecutorRepository.countByUser(executor));
+    }
+
+    /**
+     * Подсчитывает созданные и назначенные пользователю задачи по статусам
+     * и приоритетам. Счетчики читаются из поддерживаемой триггерами
+     * статистики, а при ее отсутствии вычисляются двумя агрегирующими
+     * запросами. Статусы и приоритеты без задач заполняются нулями.
+     * Задачи без статуса или приоритета входят в общие количества,
+     * поэтому сумма по статусам может быть меньше общего количества.
+     *
+     * @param user пользователь.
+     * @return счетчики задач.
+     */
+    public TaskStatsDto getTaskStats(User user) {
+        TaskStatsDto stats = new TaskStatsDto();
+        for (Status status : Status.values()) {
+            stats.getAuthoredByStatus().put(status, 0L);
+            stats.getAssignedByStatus().put(status, 0L);
+        }
+        for (Priority priority : Priority.values()) {
+            stats.getAuthoredByPriority().put(priority, 0L);
+            stats.getAssignedByPriority().put(priority, 0L);
+        }
+        List<UserTaskStatView> rows = userTaskStatRepository
+                .findByUserId(user.getId());
+        if (!rows.isEmpty()) {
+            rows.forEach(row -> addCount(stats, row.getRole(),
+                    row.getStatus(), row.getPriority(), row.getCount()));
+            return stats;
+        }
+        taskRepository.countByAuthorGroupByStatusAndPriority(user)
+                .forEach(count -> addCount(stats, TaskRole.AUTHOR,
+                        count.getStatus(), count.getPriority(), count.getCount()));
+        taskRepository.countByExecutorGroupByStatusAndPriority(user)
+                .forEach(count -> addCount(stats, TaskRole.EXECUTOR,
+                        count.getStatus(), count.getPriority(), count.getCount()));
+        return stats;
+    }
+
+    /**
+     * Пересчитывает статистику задач всех пользователей.
+     *
+     * @return количество строк статистики после пересчета.
+     * @throws NotSupportedException если база данных не PostgreSQL:
+     *                               функция пересчета создается миграциями
+     *                               только в ней.
+     */
+    public long rebuildTaskStats() {
+        Dialect dialect = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect();
+        if (!(dialect instanceof PostgreSQLDialect)) {
+            throw new NotSupportedException(
+                    "Task statistics are maintained only in PostgreSQL");
+        }
+        return transaction.execute(status -> userTaskStatRepository.rebuild());
+    }
+
+    /**
+     * Добавляет количество задач к счетчикам. Задачи без статуса или
+     * приоритета учитываются в общем количестве, но не в разбивке
+     * по отсутствующему значению.
+     *
+     * @param stats    счетчики задач.
+     * @param role     роль пользователя в задачах.
+     * @param status   статус задач.
+     * @param priority приоритет задач.
+     * @param count    количество задач.
+     */
+    private static void addCount(TaskStatsDto stats, TaskRole role,
+                                 Status status, Priority priority, long count) {
+        boolean authored = role == TaskRole.AUTHOR;
+        if (authored) {
+            stats.setAuthored(stats.getAuthored() + count);
+        } else {
+            stats.setAssigned(stats.getAssigned() + count);
+        }
+        if (status != null) {
+            (authored ? stats.getAuthoredByStatus() : stats.getAssignedByStatus())
+                    .merge(status, count, Long::sum);
+        }
+        if (priority != null) {
+            (authored ? stats.getAuthoredByPriority() : stats.getAssignedByPriority())
+                    .merge(priority, count, Long::sum);
+        }
+    }
+
+    /**
+     * Получает проекции задач, удовлетворяющих фильтру. Если автор или
+     * исполнитель из фильтра не найден, возвращается пустая страница.
+     *
+     * @param filter   параметры фильтрации.
+     * @param pageable параметры страницы и сортировки.
+     * @return страница проекций задач.
+     */
+    public Page<TaskListView> getTaskViews(TaskFilterRequest filter,
+                                           Pageable pageable) {
+        User author = null;
+        if (filter.getUsername() != null) {
+            author = userService.getUserByUsername(filter.getUsername());
+            if (author == null) {
+                return Page.empty(pageable);
+            }
+        }
+        User executor = null;
+        if (filter.getExecutor() != null) {
+            executor = userService.getUserByUsername(filter.getExecutor());
+            if (executor == null) {
+                return Page.empty(pageable);
+            }
+        }
+        Specification<Task> specification = Specification
+                .where(TaskSpecifications.hasAuthor(author))
+                .and(TaskSpecifications.hasExecutor(executor))
+                .and(TaskSpecifications.hasStatus(filter.getStatus()))
+                .and(TaskSpecifications.hasPriority(filter.getPriority()))
+                .and(TaskSpecifications.createdBetween(
+                        filter.getCreatedFrom(), filter.getCreatedTo()))
+                .and(TaskSpecifications.updatedBetween(
+                        filter.getUpdatedFrom(), filter.getUpdatedTo()));
+        return taskRepository.findViewPage(specification, pageable);
+    }
+
+    /**
+     * Получает страницу ленты задач автора после позиции курсора.
+     *
+     * @param user   автор задач.
+     * @param cursor позиция, после которой начинается страница.
+     * @param limit  максимальное количество задач.
+     * @return список проекций задач.
+     */
+    public List<TaskListView> getTaskFeedByUser(User user, TaskCursor cursor,
+                                                int limit) {
+        Timestamp timestamp = Timestamp.from(cursor.getTimestamp());
+        return cursor.getOrder() == TaskCursor.Order.UPDATED
+                ? taskRepository.findFeedByAuthorOrderByUpdated(
+                user, timestamp, cursor.getId(), Limit.of(limit))
+                : taskRepository.findFeedByAuthorOrderByCreated(
+                user, timestamp, cursor.getId(), Limit.of(limit));
+    }
+
+    /**
+     * Получает страницу ленты задач исполнителя после позиции курсора.
+     *
+     * @param username имя пользователя исполнителя.
+     * @param cursor   позиция, после которой начинается страница.
+     * @param limit    максимальное количество задач.
+     * @return список проекций задач.
+     */
+    public List<TaskListView> getTaskFeedByExecutor(String username,
+                                                    TaskCursor cursor,
+                                                    int limit) {
+        User user = userService.getUserByUsername(username);
+        Timestamp timestamp = Timestamp.from(cursor.getTimestamp());
+        return cursor.getOrder() == TaskCursor.Order.UPDATED
+                ? taskRepository.findFeedByExecutorOrderByUpdated(
+                user, timestamp, cursor.getId(), Limit.of(limit))
+                : taskRepository.findFeedByExecutorOrderByCreated(
+                user, timestamp, cursor.getId(), Limit.of(limit));
+    }
+
+    /**
+     * Ищет задачи по тексту заголовка, описания и комментариев. Каждое
+     * слово запроса ищется по префиксу, слова объединяются по условию "И".
+     * Если автор из фильтра не найден, возвращается пустой список.
+     *
+     * @param request параметры поиска.
+     * @param cursor  позиция, после которой начинается страница.
+     * @param limit   максимальное количество задач.
+     * @return список проекций найденных задач.
+     * @throws BadRequestException если запрос не содержит слов.
+     */
+    public List<TaskSearchView> searchTasks(TaskSearchRequest request,
+                                            TaskSearchCursor cursor,
+                                            int limit) {
+        List<String> terms = searchTerms(request.getQ());
+        if (terms.isEmpty()) {
+            throw new BadRequestException("Search query is empty");
+        }
+        Long authorId = null;
+        if (request.getAuthor() != null) {
+            User author = userService.getUserByUsername(request.getAuthor());
+            if (author == null) {
+                return List.of();
+            }
+            authorId = author.getId();
+        }
+        return taskSearchIndex.search(terms, request.getStatus(),
+                request.getPriority(), authorId, cursor, limit);
+    }
+
+    /**
+     * Перестраивает поисковый индекс задач.
+     *
+     * @return количество проиндексированных задач.
+     */
+    public long rebuildSearchIndex() {
+        return taskSearchIndex.reindex();
+    }
+
+    /**
+     * Выделяет слова поискового запроса. Из текста берутся только буквы
+     * и цифры, поэтому операторы синтаксиса запроса в него не попадают.
+     *
+     * @param text текст запроса.
+     * @return слова запроса в нижнем регистре, не более
+     * {@link #MAX_SEARCH_TERMS}; пустой список, если текст не содержит слов.
+     */
+    static List<String> searchTerms(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        return SEARCH_TERM.matcher(text.toLowerCase(Locale.ROOT)).results()
+                .map(MatchResult::group)
+                .limit(MAX_SEARCH_TERMS)
+                .toList();
+    }
+
+    /**
+     * Последовательно передает обработчику все задачи автора.
+     *
+     * @param author автор задач.
+     * @param action обработчик задачи.
+     */
+    public void forEachTaskByUser(User author, Consumer<Task> action) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Task> tasks = taskRepository.streamByAuthor(author)) {
+                forEachInChunks(tasks, action);
+            }
+        });
+    }
+
+    /**
+     * Последовательно передает обработчику все задачи исполнителя.
+     *
+     * @param executor пользователь, указанный в качестве исполнителя.
+     * @param action   обработчик задачи.
+     */
+    public void forEachTaskByExecutor(User executor, Consumer<Task> action) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Task> tasks = taskRepository.streamByExecutor(executor)) {
+                forEachInChunks(tasks, action);
+            }
+        });
+    }
+
+    /**
+     * Обрабатывает задачи из потока порциями по {@link #EXPORT_CHUNK_SIZE}.
+     * Пока порция находится в контексте постоянства, ленивые коллекции ее
+     * задач загружаются пакетами; после обработки порции контекст очищается.
+     *
+     * @param tasks  поток задач.
+     * @param action обработчик задачи.
+     */
+    private void forEachInChunks(Stream<Task> tasks, Consumer<Task> action) {
+        List<Task> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+        tasks.forEach(task -> {
+            chunk.add(task);
+            if (chunk.size() == EXPORT_CHUNK_SIZE) {
+                processChunk(chunk, action);
+            }
+        });
+        processChunk(chunk, action);
+    }
+
+    /**
+     * Передает задачи порции обработчику и отсоединяет их от контекста
+     * постоянства.
+     *
+     * @param chunk  порция задач.
+     * @param action обработчик задачи.
+     */
+    private void processChunk(List<Task> chunk, Consumer<Task> action) {
+        chunk.forEach(action);
+        chunk.clear();
+        entityManager.clear();
     }
 
     /**
@@ -99,7 +558,168 @@ public class TaskServiceImpl implements TaskService {
      * @return созданная задача.
      */
     public Task createTask(Task task) {
-        return taskRepository.save(task);
+        Task savedTask = taskRepository.save(task);
+        taskSearchIndex.tasksChanged(List.of(savedTask.getId()));
+        return savedTask;
+    }
+
+    /**
+     * Создает задачи автора в одной транзакции пакетами.
+     * Автор и исполнители должны иметь идентификаторы: они записываются
+     * только как внешние ключи и не загружаются из базы данных.
+     *
+     * @param author автор задач.
+     * @param tasks  задачи для создания.
+     * @return идентификаторы созданных задач.
+     */
+    public List<Long> createTasks(User author, Iterator<Task> tasks) {
+        return transaction.execute(status -> {
+            List<Long> ids = new ArrayList<>();
+            while (tasks.hasNext()) {
+                Task task = tasks.next();
+                task.setId(null);
+                task.setAuthor(author);
+                task.setComments(new ArrayList<>());
+                entityManager.persist(task);
+                ids.add(task.getId());
+                if (ids.size() % batchSize == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            taskSearchIndex.tasksChanged(ids);
+            return ids;
+        });
+    }
+
+    /**
+     * Меняет статус задач, в которых пользователь является исполнителем.
+     *
+     * @param executor исполнитель задач.
+     * @param ids      идентификаторы задач.
+     * @param versions ожидаемые версии задач по идентификатору.
+     * @param status   новый статус.
+     * @return идентификаторы задач, к которым применено изменение.
+     */
+    public List<Long> updateStatuses(User executor, Collection<Long> ids,
+                                     Map<Long, Long> versions, Status status) {
+        Date now = new Date();
+        return applyBulk(ids, versions,
+                checked -> taskRepository.findVersionsForStatus(
+                        checked, executor, status),
+                (changed, version) -> taskRepository.updateStatus(
+                        changed, version, status, now),
+                changed -> taskSearchIndex.tasksChanged(changed));
+    }
+
+    /**
+     * Назначает пользователя исполнителем задач автора.
+     *
+     * @param author   автор задач.
+     * @param ids      идентификаторы задач.
+     * @param versions ожидаемые версии задач по идентификатору.
+     * @param executor назначаемый исполнитель.
+     * @return идентификаторы задач, к которым применено изменение.
+     */
+    public List<Long> addExecutor(User author, Collection<Long> ids,
+                                  Map<Long, Long> versions, User executor) {
+        Date now = new Date();
+        return applyBulk(ids, versions,
+                checked -> taskRepository.findVersionsForExecutorAdd(
+                        checked, author, executor),
+                (changed, version) -> taskRepository.incrementVersion(
+                        changed, version, now),
+                changed -> {
+                    taskRepository.insertExecutor(changed, executor.getId());
+                    entityCacheService.evictExecutors(changed);
+                });
+    }
+
+    /**
+     * Снимает пользователя с исполнения задач автора.
+     *
+     * @param author   автор задач.
+     * @param ids      идентификаторы задач.
+     * @param versions ожидаемые версии задач по идентификатору.
+     * @param executor снимаемый исполнитель.
+     * @return идентификаторы задач, к которым применено изменение.
+     */
+    public List<Long> deleteExecutor(User author, Collection<Long> ids,
+                                     Map<Long, Long> versions, User executor) {
+        Date now = new Date();
+        return applyBulk(ids, versions,
+                checked -> taskRepository.findVersionsForExecutorRemove(
+                        checked, author, executor),
+                (changed, version) -> taskRepository.incrementVersion(
+                        changed, version, now),
+                changed -> {
+                    taskRepository.deleteExecutor(changed, executor.getId());
+                    entityCacheService.evictExecutors(changed);
+                });
+    }
+
+    /**
+     * Применяет массовое изменение к задачам в одной транзакции.
+     * <p>
+     * Задачи, для которых изменение меняет состояние, обновляются
+     * группами с одинаковой версией: если задача была изменена после
+     * чтения версий, количество обновленных строк не совпадет и
+     * транзакция будет отменена.
+     * </p>
+     *
+     * @param ids      идентификаторы задач.
+     * @param versions ожидаемые версии задач по идентификатору.
+     * @param load     загрузка версий задач, доступных пользователю.
+     * @param update   обновление задач с указанной версией,
+     *                 возвращающее количество обновленных задач.
+     * @param apply    изменение связанных таблиц для обновленных задач.
+     * @return идентификаторы задач, к которым применено изменение,
+     * в порядке передачи.
+     * @throws BadRequestException если задач больше {@link #BULK_MAX_SIZE}.
+     * @throws ConflictException   если версия задачи не совпадает
+     *                             с ожидаемой.
+     */
+    private List<Long> applyBulk(
+            Collection<Long> ids, Map<Long, Long> versions,
+            Function<Collection<Long>, List<TaskVersionView>> load,
+            BiFunction<Collection<Long>, Long, Integer> update,
+            Consumer<Collection<Long>> apply) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        if (ids.size() > BULK_MAX_SIZE) {
+            throw new BadRequestException(
+                    "Too many tasks, maximum is " + BULK_MAX_SIZE);
+        }
+        return transaction.execute(status -> {
+            Set<Long> allowed = new HashSet<>();
+            Map<Long, List<Long>> changedByVersion = new HashMap<>();
+            for (TaskVersionView view : load.apply(ids)) {
+                Long expected = versions != null
+                        ? versions.get(view.getId()) : null;
+                if (expected != null && !expected.equals(view.getVersion())) {
+                    throw new ConflictException(
+                            "Task " + view.getId() + " has been modified");
+                }
+                allowed.add(view.getId());
+                if (view.getChanged()) {
+                    changedByVersion.computeIfAbsent(view.getVersion(),
+                            version -> new ArrayList<>()).add(view.getId());
+                }
+            }
+            List<Long> changed = new ArrayList<>();
+            changedByVersion.forEach((version, group) -> {
+                if (update.apply(group, version) != group.size()) {
+                    throw new ConflictException(
+                            "Tasks have been modified concurrently");
+                }
+                changed.addAll(group);
+            });
+            if (!changed.isEmpty()) {
+                apply.accept(changed);
+            }
+            return ids.stream().filter(allowed::contains).toList();
+        });
     }
 
     /**
@@ -111,13 +731,163 @@ public class TaskServiceImpl implements TaskService {
      */
     public Task updateTask(Long id, Task task) {
         Task existingTask = getTaskById(id);
+        applyChanges(existingTask, task);
+        Task savedTask = taskRepository.save(existingTask);
+        taskSearchIndex.tasksChanged(List.of(id));
+        return savedTask;
+    }
+
+    /**
+     * Обновляет задачу, если пользователь является ее автором.
+     *
+     * @param user пользователь, выполняющий изменение.
+     * @param id   идентификатор задачи.
+     * @param task сущность задачи с обновленной информацией.
+     * @return задача в виде DTO.
+     */
+    public TaskDto updateTask(User user, Long id, Task task) {
+        return modifyTask(id, existingTask -> {
+            if (existingTask.getAuthor().equals(user)) {
+                applyChanges(existingTask, task);
+                taskSearchIndex.tasksChanged(List.of(id));
+            }
+        });
+    }
+
+    /**
+     * Меняет статус задачи, если пользователь является ее исполнителем.
+     * <p>
+     * Статус меняется одним запросом UPDATE с проверкой исполнителя
+     * и версии, без предварительной загрузки задачи; задача загружается
+     * только для формирования ответа. Из кэша второго уровня сбрасываются
+     * только запись этой задачи и результаты запросов, а не весь регион
+     * задач.
+     * </p>
+     *
+     * @param user    пользователь, выполняющий изменение.
+     * @param id      идентификатор задачи.
+     * @param status  новый статус задачи.
+     * @param version ожидаемая версия задачи или {@code null}.
+     * @return задача в виде DTO.
+     * @throws ResourceNotFoundException если задача не найдена.
+     * @throws ConflictException         если версия задачи не совпадает
+     *                                   с ожидаемой.
+     */
+    public TaskDto updateStatus(User user, Long id, Status status,
+                                Long version) {
+        return transaction.execute(tx -> {
+            Date now = new Date();
+            int updated = version != null
+                    ? taskRepository.updateStatusByExecutor(
+                    id, status.name(), user.getId(), now, version)
+                    : taskRepository.updateStatusByExecutor(
+                    id, status.name(), user.getId(), now);
+            if (updated > 0) {
+                entityCacheService.evictTask(id);
+            }
+            Task task = taskRepository.findWithExecutorsById(id)
+                    .orElseThrow(() ->
+                            new ResourceNotFoundException("Task not found"));
+            if (updated == 0 && task.getExecutors().contains(user)) {
+                throw new ConflictException(
+                        "Task " + id + " has been modified");
+            }
+            if (updated > 0) {
+                taskSearchIndex.tasksChanged(List.of(id));
+            }
+            return taskMapper.taskToTaskDto(task);
+        });
+    }
+
+    /**
+     * Добавляет исполнителя к задаче автора.
+     *
+     * @param user     автор задачи.
+     * @param id       идентификатор задачи.
+     * @param executor добавляемый исполнитель.
+     * @return задача в виде DTO.
+     * @throws ResourceNotFoundException если исполнитель не найден или
+     *                                   пользователь не является автором.
+     */
+    public TaskDto addExecutor(User user, Long id, User executor) {
+        return modifyTask(id, existingTask -> {
+            checkExecutorChange(existingTask, user, executor);
+            existingTask.addExecutor(executor);
+        });
+    }
+
+    /**
+     * Удаляет исполнителя из задачи автора.
+     *
+     * @param user     автор задачи.
+     * @param id       идентификатор задачи.
+     * @param executor удаляемый исполнитель.
+     * @return задача в виде DTO.
+     * @throws ResourceNotFoundException если исполнитель не найден или
+     *                                   пользователь не является автором.
+     */
+    public TaskDto deleteExecutor(User user, Long id, User executor) {
+        return modifyTask(id, existingTask -> {
+            checkExecutorChange(existingTask, user, executor);
+            existingTask.deleteExecutor(executor);
+        });
+    }
+
+    /**
+     * Загружает задачу вместе с автором и исполнителями, изменяет ее
+     * и формирует DTO в одной транзакции.
+     *
+     * @param id     идентификатор задачи.
+     * @param change изменение задачи.
+     * @return задача в виде DTO.
+     * @throws ResourceNotFoundException если задача не найдена.
+     * @throws ConflictException         если задачу изменили после чтения.
+     */
+    private TaskDto modifyTask(Long id, Consumer<Task> change) {
+        return transaction.execute(status -> {
+            Task task = taskRepository.findWithExecutorsById(id)
+                    .orElseThrow(() ->
+                            new ResourceNotFoundException("Task not found"));
+            change.accept(task);
+            try {
+                entityManager.flush();
+            } catch (OptimisticLockException e) {
+                // Явная запись через EntityManager не преобразуется
+                // в исключения Spring
+                throw new ConflictException("Task " + id + " has been modified");
+            }
+            return taskMapper.taskToTaskDto(task);
+        });
+    }
+
+    /**
+     * Применяет изменяемые поля задачи к существующей задаче.
+     *
+     * @param existingTask существующая задача.
+     * @param task         сущность задачи с обновленной информацией.
+     */
+    private static void applyChanges(Task existingTask, Task task) {
         if (task.getStatus() != null) {
             existingTask.setStatus(task.getStatus());
         }
         if (task.getExecutors() != null) {
             existingTask.setExecutors(task.getExecutors());
         }
-        return taskRepository.save(existingTask);
+    }
+
+    /**
+     * Проверяет, что пользователь может изменить исполнителей задачи.
+     *
+     * @param task     задача.
+     * @param user     пользователь, выполняющий изменение.
+     * @param executor исполнитель.
+     * @throws ResourceNotFoundException если исполнитель не найден или
+     *                                   пользователь не является автором.
+     */
+    private static void checkExecutorChange(Task task, User user, User executor) {
+        if (executor == null || !task.getAuthor().equals(user)) {
+            throw new ResourceNotFoundException("User not found");
+        }
     }
 
     /**
@@ -128,6 +898,7 @@ public class TaskServiceImpl implements TaskService {
     public void deleteTask(Long id) {
         getTaskById(id);
         taskRepository.deleteById(id);
+        taskSearchIndex.tasksChanged(List.of(id));
     }
 
     /**
@@ -199,7 +970,9 @@ public class TaskServiceImpl implements TaskService {
         Task existingTask = getTaskById(id);
         Comment comment = commentService.getCommentById(commentId);
         existingTask.addComment(comment);
-        return taskRepository.save(existingTask);
+        Task savedTask = taskRepository.save(existingTask);
+        taskSearchIndex.tasksChanged(List.of(id));
+        return savedTask;
     }
 
     /**
@@ -213,7 +986,9 @@ public class TaskServiceImpl implements TaskService {
         Task existingTask = getTaskById(id);
         Comment comment = commentService.getCommentById(commentId);
         existingTask.removeComment(comment);
-        return taskRepository.save(existingTask);
+        Task savedTask = taskRepository.save(existingTask);
+        taskSearchIndex.tasksChanged(List.of(id));
+        return savedTask;
     }
 
 }
@@ -0,0 +1,61 @@
+package com.company.taskmanager.services.task.search;
+
+import com.company.taskmanager.models.task.Priority;
+import com.company.taskmanager.models.task.Status;
+import com.company.taskmanager.repositories.task.TaskRepository;
+import com.company.taskmanager.repositories.task.TaskSearchView;
+import com.company.taskmanager.services.task.TaskSearchCursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Поиск задач средствами PostgreSQL.
+ * <p>
+ * Поисковые векторы хранятся в генерируемых столбцах {@code search_vector}
+ * задач и комментариев и обновляются базой данных вместе со строками,
+ * поэтому уведомления об изменениях не требуются, а перестраивать
+ * нечего.
+ * </p>
+ */
+@Service
+@ConditionalOnProperty(name = "task.search.index", havingValue = "database",
+        matchIfMissing = true)
+public class DatabaseTaskSearchIndex implements TaskSearchIndex {
+    @Autowired
+    private TaskRepository taskRepository;
+
+    /**
+     * Ищет задачи запросом к GIN-индексам
+     * (см. {@link TaskRepository#search}).
+     */
+    @Override
+    public List<TaskSearchView> search(List<String> terms, Status status,
+                                       Priority priority, Long authorId,
+                                       TaskSearchCursor cursor, int limit) {
+        return taskRepository.search(String.join(" ", terms),
+                status != null ? status.name() : null,
+                priority != null ? priority.name() : null,
+                authorId, cursor.getRank(), cursor.getId(), limit);
+    }
+
+    @Override
+    public void tasksChanged(Collection<Long> taskIds) {
+    }
+
+    @Override
+    public void userDeleted(Long userId) {
+    }
+
+    @Override
+    public void userChanged(Long userId, String username) {
+    }
+
+    @Override
+    public long reindex() {
+        return 0;
+    }
+}
@@ -0,0 +1,653 @@
+package com.company.taskmanager.services.task.search;
+
+import com.company.taskmanager.models.task.Priority;
+import com.company.taskmanager.models.task.Status;
+import com.company.taskmanager.repositories.comment.CommentRepository;
+import com.company.taskmanager.repositories.comment.CommentView;
+import com.company.taskmanager.repositories.task.TaskRepository;
+import com.company.taskmanager.repositories.task.TaskSearchDocumentView;
+import com.company.taskmanager.repositories.task.TaskSearchView;
+import com.company.taskmanager.services.task.TaskSearchCursor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MultiTermQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSelector;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Встроенный полнотекстовый индекс задач на Lucene.
+ * <p>
+ * Индекс хранится в каталоге {@code task.search.lucene.path} (переменная
+ * окружения {@code SEARCH_INDEX_PATH}) и обслуживает поиск без обращения
+ * к базе данных: документ задачи содержит все поля результата поиска.
+ * </p>
+ * <p>
+ * Изменения задач поступают в очередь после фиксации транзакции
+ * и применяются одним фоновым потоком. Поток забирает из очереди
+ * идентификаторы порциями, перечитывает текущее состояние задач
+ * и их комментариев из базы данных и заменяет документы; задачи, которых
+ * больше нет, удаляются из индекса. Поскольку индексируется состояние на
+ * момент чтения, а не содержимое события, повторные и переупорядоченные
+ * уведомления не приводят к устаревшим документам. После каждой порции
+ * поиск видит изменения без фиксации индекса на диске (near-real-time);
+ * фиксация выполняется не чаще {@code task.search.lucene.commit-interval}.
+ * </p>
+ * <p>
+ * Полное перестроение ({@link #reindex()}) выполняется при первом запуске
+ * с пустым каталогом и по запросу администратора. Оно не очищает индекс
+ * заранее: документы переписываются с номером нового поколения, а
+ * документы предыдущих поколений удаляются в конце, поэтому поиск
+ * остается доступным во время перестроения. После аварийного завершения
+ * процесса изменения, не зафиксированные на диске, восстанавливаются
+ * перестроением.
+ * </p>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "task.search.index", havingValue = "lucene")
+public class LuceneTaskSearchIndex implements TaskSearchIndex, DisposableBean {
+    private static final String FIELD_KEY = "key";
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_GENERATION = "generation";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_BODY = "body";
+    private static final String FIELD_COMMENT = "comment";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_PRIORITY = "priority";
+    private static final String FIELD_AUTHOR_ID = "authorId";
+    private static final String FIELD_AUTHOR = "author";
+    private static final String FIELD_USER_ID = "userId";
+
+    /**
+     * Ключ номера поколения в данных фиксации индекса.
+     */
+    private static final String COMMIT_GENERATION = "generation";
+
+    /**
+     * Максимальное количество задач, индексируемых за одно чтение
+     * из базы данных.
+     */
+    private static final int BATCH_SIZE = 500;
+
+    private static final float TITLE_BOOST = 2f;
+
+    private static final float COMMENT_BOOST = 0.5f;
+
+    /**
+     * Время ожидания изменений в очереди, после которого поток проверяет
+     * необходимость фиксации и остановку.
+     */
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+
+    /**
+     * Пауза перед повторной попыткой после ошибки индексации.
+     */
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+
+    /**
+     * Порядок результатов: по убыванию релевантности, затем
+     * идентификатора.
+     */
+    private static final Sort SORT = new Sort(SortField.FIELD_SCORE,
+            LongField.newSortField(FIELD_ID, true, SortedNumericSelector.Type.MIN));
+
+    private final TaskRepository taskRepository;
+
+    private final CommentRepository commentRepository;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Duration commitInterval;
+
+    private final Analyzer analyzer = new StandardAnalyzer(CharArraySet.EMPTY_SET);
+
+    private final Directory directory;
+
+    private final IndexWriter writer;
+
+    private final SearcherManager searcherManager;
+
+    private final BlockingQueue<Long> changedTasks = new LinkedBlockingQueue<>();
+
+    /**
+     * Блокировка записи в индекс: порции изменений и полное перестроение
+     * не выполняются одновременно.
+     */
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private final Thread worker;
+
+    private volatile boolean running = true;
+
+    private long generation;
+
+    private boolean reindexOnStart;
+
+    private volatile long lastCommit = System.nanoTime();
+
+    /**
+     * Конструктор индекса. Открывает или создает каталог индекса.
+     *
+     * @param taskRepository     репозиторий задач
+     * @param commentRepository  репозиторий комментариев
+     * @param transactionManager менеджер транзакций
+     * @param path               каталог индекса
+     * @param commitInterval     минимальный интервал между фиксациями
+     *                           индекса на диске
+     * @throws IOException если каталог индекса недоступен
+     */
+    public LuceneTaskSearchIndex(
+            TaskRepository taskRepository,
+            CommentRepository commentRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${task.search.lucene.path}") Path path,
+            @Value("${task.search.lucene.commit-interval}") Duration commitInterval)
+            throws IOException {
+        this.taskRepository = taskRepository;
+        this.commentRepository = commentRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.commitInterval = commitInterval;
+        this.directory = FSDirectory.open(path);
+        this.reindexOnStart = !DirectoryReader.indexExists(directory);
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.generation = readGeneration(writer);
+        this.searcherManager = new SearcherManager(writer, null);
+        this.worker = new Thread(this::run, "task-search-indexer");
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * Запускает фоновую индексацию после старта приложения.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        worker.start();
+    }
+
+    /**
+     * Ищет задачи в индексе. Каждое слово должно встретиться по префиксу
+     * в заголовке, описании или комментариях; совпадение в заголовке
+     * весит больше, в комментариях — меньше. Префикс совпадает со всеми
+     * словами индекса, а релевантность складывается из весов полей,
+     * в которых найдено каждое слово запроса. Позиция курсора сравнивается
+     * с текущей релевантностью задач, поэтому изменение индекса между
+     * запросами страниц может сдвинуть границу страницы.
+     */
+    @Override
+    public List<TaskSearchView> search(List<String> terms, Status status,
+                                       Priority priority, Long authorId,
+                                       TaskSearchCursor cursor, int limit) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (String term : terms) {
+            builder.add(new BooleanQuery.Builder()
+                    .add(new BoostQuery(prefix(FIELD_TITLE, term), TITLE_BOOST),
+                            BooleanClause.Occur.SHOULD)
+                    .add(prefix(FIELD_BODY, term), BooleanClause.Occur.SHOULD)
+                    .add(new BoostQuery(prefix(FIELD_COMMENT, term), COMMENT_BOOST),
+                            BooleanClause.Occur.SHOULD)
+                    .build(), BooleanClause.Occur.MUST);
+        }
+        if (status != null) {
+            builder.add(new TermQuery(new Term(FIELD_STATUS, status.name())),
+                    BooleanClause.Occur.FILTER);
+        }
+        if (priority != null) {
+            builder.add(new TermQuery(new Term(FIELD_PRIORITY, priority.name())),
+                    BooleanClause.Occur.FILTER);
+        }
+        if (authorId != null) {
+            builder.add(LongField.newExactQuery(FIELD_AUTHOR_ID, authorId),
+                    BooleanClause.Occur.FILTER);
+        }
+        Query query = builder.build();
+        // Задачи страницы идут строго после курсора: при равной
+        // релевантности идентификатор меньше, поэтому позиция сдвигается на
+        // единицу, а номер документа не участвует в сравнении.
+        FieldDoc after = new FieldDoc(-1, cursor.getRank(),
+                new Object[]{cursor.getRank(), cursor.getId() - 1});
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopFieldDocs top = searcher.searchAfter(after, query, limit, SORT, true);
+                if (top.scoreDocs.length == 0) {
+                    return List.of();
+                }
+                Map<String, String[]> snippets = UnifiedHighlighter
+                        .builder(searcher, analyzer)
+                        .withMaxNoHighlightPassages(0)
+                        .build()
+                        .highlightFields(new String[]{FIELD_BODY, FIELD_COMMENT},
+                                query, top, new int[]{2, 1});
+                StoredFields storedFields = searcher.storedFields();
+                List<TaskSearchView> hits = new ArrayList<>(top.scoreDocs.length);
+                for (int i = 0; i < top.scoreDocs.length; i++) {
+                    ScoreDoc scoreDoc = top.scoreDocs[i];
+                    Document document = storedFields.document(scoreDoc.doc);
+                    String title = document.get(FIELD_TITLE);
+                    String snippet = snippets.get(FIELD_BODY)[i];
+                    hits.add(new Hit(
+                            taskId(document), title, document.get(FIELD_STATUS),
+                            document.get(FIELD_PRIORITY), document.get(FIELD_AUTHOR),
+                            scoreDoc.score, snippet != null ? snippet : title,
+                            snippets.get(FIELD_COMMENT)[i]));
+                }
+                return hits;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Ставит задачи в очередь индексации после фиксации текущей
+     * транзакции или сразу, если транзакции нет.
+     */
+    @Override
+    public void tasksChanged(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(taskIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            changedTasks.addAll(ids);
+                        }
+                    });
+        } else {
+            changedTasks.addAll(ids);
+        }
+    }
+
+    /**
+     * Переиндексирует задачи, в которых пользователь был автором или
+     * оставлял комментарии: после удаления пользователя они удалены
+     * каскадно или лишились его комментариев. Задачи находятся по индексу.
+     */
+    @Override
+    public void userDeleted(Long userId) {
+        tasksChanged(findDocuments(LongField.newExactQuery(FIELD_USER_ID, userId),
+                Set.of(FIELD_ID)).stream()
+                .map(LuceneTaskSearchIndex::taskId)
+                .toList());
+    }
+
+    /**
+     * Переиндексирует задачи пользователя, в документах которых сохранено
+     * другое имя автора. Изменение других данных пользователя индекс
+     * не затрагивает.
+     */
+    @Override
+    public void userChanged(Long userId, String username) {
+        tasksChanged(findDocuments(LongField.newExactQuery(FIELD_AUTHOR_ID, userId),
+                Set.of(FIELD_ID, FIELD_AUTHOR)).stream()
+                .filter(document -> !username.equals(document.get(FIELD_AUTHOR)))
+                .map(LuceneTaskSearchIndex::taskId)
+                .toList());
+    }
+
+    /**
+     * Перестраивает индекс по всем задачам в вызывающем потоке. Изменения,
+     * поступающие во время перестроения, применяются после него.
+     */
+    @Override
+    public long reindex() {
+        writeLock.lock();
+        try {
+            generation++;
+            long indexed = 0;
+            Long last = 0L;
+            List<Long> ids;
+            do {
+                ids = taskRepository.findIdsAfter(last, Limit.of(BATCH_SIZE));
+                if (!ids.isEmpty()) {
+                    index(ids);
+                    indexed += ids.size();
+                    last = ids.get(ids.size() - 1);
+                }
+            } while (ids.size() == BATCH_SIZE);
+            writer.deleteDocuments(LongField.newRangeQuery(FIELD_GENERATION,
+                    Long.MIN_VALUE, generation - 1));
+            commit();
+            searcherManager.maybeRefresh();
+            log.info("Task search index rebuilt: {} tasks", indexed);
+            return indexed;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Цикл фонового потока: перестраивает пустой индекс, затем применяет
+     * изменения из очереди порциями до остановки и периодически фиксирует
+     * индекс на диске.
+     */
+    private void run() {
+        if (reindexOnStart) {
+            try {
+                reindex();
+            } catch (RuntimeException e) {
+                log.error("Initial task search reindex failed", e);
+            }
+        }
+        while (running || !changedTasks.isEmpty()) {
+            Set<Long> batch = new LinkedHashSet<>();
+            try {
+                Long first = changedTasks.poll(POLL_TIMEOUT.toMillis(),
+                        TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    List<Long> more = new ArrayList<>();
+                    changedTasks.drainTo(more, BATCH_SIZE - 1);
+                    batch.addAll(more);
+                    applyChanges(batch);
+                }
+                if (System.nanoTime() - lastCommit >= commitInterval.toNanos()) {
+                    commitChanges();
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            } catch (IOException | RuntimeException e) {
+                log.error("Task search indexing failed, retrying {} tasks",
+                        batch.size(), e);
+                changedTasks.addAll(batch);
+                if (!sleep(RETRY_DELAY)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Переиндексирует порцию задач и открывает изменения для поиска.
+     *
+     * @param ids идентификаторы задач
+     * @throws IOException при ошибке записи индекса
+     */
+    private void applyChanges(Collection<Long> ids) throws IOException {
+        writeLock.lock();
+        try {
+            index(ids);
+        } finally {
+            writeLock.unlock();
+        }
+        searcherManager.maybeRefresh();
+    }
+
+    /**
+     * Фиксирует индекс на диске, если в нем есть изменения.
+     *
+     * @throws IOException при ошибке записи индекса
+     */
+    private void commitChanges() throws IOException {
+        writeLock.lock();
+        try {
+            if (writer.hasUncommittedChanges()) {
+                commit();
+            }
+            lastCommit = System.nanoTime();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Заменяет документы задач их текущим состоянием из базы данных
+     * и удаляет документы задач, которых больше нет.
+     *
+     * @param ids идентификаторы задач
+     * @throws IOException при ошибке записи индекса
+     */
+    private void index(Collection<Long> ids) throws IOException {
+        List<TaskSearchDocumentView> tasks = new ArrayList<>();
+        List<CommentView> comments = new ArrayList<>();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            tasks.addAll(taskRepository.findSearchDocumentsByIdIn(ids));
+            if (!tasks.isEmpty()) {
+                comments.addAll(commentRepository.findViewsByTaskIdIn(
+                        tasks.stream().map(TaskSearchDocumentView::getId).toList()));
+            }
+        });
+        Map<Long, TaskSearchDocumentView> tasksById = tasks.stream()
+                .collect(Collectors.toMap(TaskSearchDocumentView::getId,
+                        Function.identity()));
+        Map<Long, List<CommentView>> commentsByTask = comments.stream()
+                .collect(Collectors.groupingBy(CommentView::getTaskId));
+        for (Long id : ids) {
+            Term key = new Term(FIELD_KEY, id.toString());
+            TaskSearchDocumentView task = tasksById.get(id);
+            if (task == null) {
+                writer.deleteDocuments(key);
+            } else {
+                writer.updateDocument(key, document(task,
+                        commentsByTask.getOrDefault(id, List.of())));
+            }
+        }
+    }
+
+    /**
+     * Строит документ индекса для задачи.
+     *
+     * @param task     проекция задачи
+     * @param comments комментарии задачи
+     * @return документ индекса
+     */
+    private Document document(TaskSearchDocumentView task,
+                              List<CommentView> comments) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_KEY, task.getId().toString(),
+                Field.Store.NO));
+        document.add(new LongField(FIELD_ID, task.getId(), Field.Store.YES));
+        document.add(new LongField(FIELD_GENERATION, generation, Field.Store.NO));
+        String title = Objects.toString(task.getTitle(), "");
+        document.add(new TextField(FIELD_TITLE, title, Field.Store.YES));
+        document.add(new TextField(FIELD_BODY, task.getDescription() != null
+                ? title + " " + task.getDescription() : title, Field.Store.YES));
+        if (task.getStatus() != null) {
+            document.add(new StringField(FIELD_STATUS, task.getStatus().name(),
+                    Field.Store.YES));
+        }
+        if (task.getPriority() != null) {
+            document.add(new StringField(FIELD_PRIORITY, task.getPriority().name(),
+                    Field.Store.YES));
+        }
+        document.add(new LongField(FIELD_AUTHOR_ID, task.getAuthorId(),
+                Field.Store.NO));
+        document.add(new StoredField(FIELD_AUTHOR, task.getAuthor()));
+        Set<Long> userIds = new LinkedHashSet<>();
+        userIds.add(task.getAuthorId());
+        for (CommentView comment : comments) {
+            document.add(new TextField(FIELD_COMMENT, comment.getText(),
+                    Field.Store.YES));
+            userIds.add(comment.getUserId());
+        }
+        userIds.forEach(userId -> document.add(
+                new LongField(FIELD_USER_ID, userId, Field.Store.NO)));
+        return document;
+    }
+
+    /**
+     * Фиксирует индекс на диске вместе с номером поколения.
+     *
+     * @throws IOException при ошибке записи индекса
+     */
+    private void commit() throws IOException {
+        writer.setLiveCommitData(Map.of(COMMIT_GENERATION,
+                Long.toString(generation)).entrySet());
+        writer.commit();
+        lastCommit = System.nanoTime();
+    }
+
+    /**
+     * Останавливает фоновый поток, применив изменения из очереди,
+     * и закрывает индекс с фиксацией на диске.
+     */
+    @Override
+    public void destroy() throws IOException {
+        running = false;
+        if (worker.isAlive()) {
+            try {
+                worker.join(Duration.ofSeconds(30).toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        writeLock.lock();
+        try {
+            commit();
+            searcherManager.close();
+            writer.close();
+            directory.close();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static long readGeneration(IndexWriter writer) {
+        if (writer.getLiveCommitData() != null) {
+            for (Map.Entry<String, String> entry : writer.getLiveCommitData()) {
+                if (COMMIT_GENERATION.equals(entry.getKey())) {
+                    return Long.parseLong(entry.getValue());
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Находит все документы, подходящие под запрос.
+     *
+     * @param query  запрос
+     * @param fields загружаемые сохраненные поля
+     * @return документы с указанными полями
+     */
+    private List<Document> findDocuments(Query query, Set<String> fields) {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                int count = Math.max(1, searcher.count(query));
+                StoredFields storedFields = searcher.storedFields();
+                List<Document> documents = new ArrayList<>();
+                for (ScoreDoc scoreDoc : searcher.search(query, count).scoreDocs) {
+                    documents.add(storedFields.document(scoreDoc.doc, fields));
+                }
+                return documents;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Long taskId(Document document) {
+        return document.getField(FIELD_ID).numericValue().longValue();
+    }
+
+    /**
+     * Строит запрос слова по префиксу. Префикс раскрывается во все слова
+     * поля без ограничения: при постоянной оценке немногие слова
+     * объединяются логическим запросом, а при большем их количестве
+     * документы собираются в битовое множество, поэтому ограничение
+     * {@link IndexSearcher#getMaxClauseCount()} не достигается. Каждое
+     * совпавшее поле дает оценку, равную его весу, независимо от частоты
+     * слова.
+     *
+     * @param field поле индекса
+     * @param term  префикс слова
+     * @return запрос по префиксу
+     */
+    private static Query prefix(String field, String term) {
+        return new PrefixQuery(new Term(field, term),
+                MultiTermQuery.CONSTANT_SCORE_BLENDED_REWRITE);
+    }
+
+    private static boolean sleep(Duration delay) {
+        try {
+            Thread.sleep(delay.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Результат поиска, построенный по сохраненным полям документа.
+     */
+    @lombok.Value
+    private static class Hit implements TaskSearchView {
+        Long id;
+        String title;
+        String status;
+        String priority;
+        String author;
+        Float rank;
+        String snippet;
+        String commentSnippet;
+    }
+}
@@ -0,0 +1,77 @@
+package com.company.taskmanager.services.task.search;
+
+import com.company.taskmanager.models.task.Priority;
+import com.company.taskmanager.models.task.Status;
+import com.company.taskmanager.repositories.task.TaskSearchView;
+import com.company.taskmanager.services.task.TaskSearchCursor;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Полнотекстовый индекс задач по заголовку, описанию и комментариям.
+ * <p>
+ * Реализация выбирается свойством {@code task.search.index} (переменная
+ * окружения {@code SEARCH_INDEX}): {@code database} — поиск средствами
+ * PostgreSQL (см. {@link DatabaseTaskSearchIndex}), {@code lucene} —
+ * встроенный индекс в процессе приложения
+ * (см. {@link LuceneTaskSearchIndex}).
+ * </p>
+ * <p>
+ * Сервисы сообщают индексу об изменении задач и комментариев после
+ * изменения данных; реализация сама решает, когда и как обновить индекс.
+ * </p>
+ */
+public interface TaskSearchIndex {
+
+    /**
+     * Ищет задачи, содержащие все слова запроса. Каждое слово ищется
+     * по префиксу. Задачи упорядочены по убыванию пары (релевантность,
+     * идентификатор), и страница начинается сразу после позиции курсора.
+     *
+     * @param terms    слова запроса в нижнем регистре
+     * @param status   статус задач или {@code null}
+     * @param priority приоритет задач или {@code null}
+     * @param authorId идентификатор автора задач или {@code null}
+     * @param cursor   позиция, после которой начинается страница
+     * @param limit    максимальное количество задач
+     * @return список найденных задач
+     */
+    List<TaskSearchView> search(List<String> terms, Status status,
+                                Priority priority, Long authorId,
+                                TaskSearchCursor cursor, int limit);
+
+    /**
+     * Сообщает, что задачи созданы, изменены или удалены, либо изменились
+     * их комментарии. Если вызов выполняется внутри транзакции, изменения
+     * учитываются только после ее фиксации.
+     *
+     * @param taskIds идентификаторы задач
+     */
+    void tasksChanged(Collection<Long> taskIds);
+
+    /**
+     * Сообщает, что пользователь удален вместе с его задачами
+     * и комментариями.
+     *
+     * @param userId идентификатор пользователя
+     */
+    void userDeleted(Long userId);
+
+    /**
+     * Сообщает, что данные пользователя сохранены и его имя могло
+     * измениться.
+     *
+     * @param userId   идентификатор пользователя
+     * @param username текущее имя пользователя
+     */
+    void userChanged(Long userId, String username);
+
+    /**
+     * Полностью перестраивает индекс по текущим данным.
+     *
+     * @return количество проиндексированных задач или 0, если
+     * реализация не требует перестроения
+     */
+    long reindex();
+}
@@ -4,6 +4,10 @@ import com.company.taskmanager.exceptions.ResourceNotFoundException;
 import com.company.taskmanager.models.user.Role;
 import com.company.taskmanager.models.user.User;
 import com.company.taskmanager.repositories.user.UserRepository;
+import com.company.taskmanager.services.cache.EntityCacheService;
+import com.company.taskmanager.services.jwt.TokenRevocationService;
+import com.company.taskmanager.services.task.search.TaskSearchIndex;
+import com.company.taskmanager.services.user.cache.UserCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -14,6 +18,10 @@ import org.springframework.stereotype.Service;
  * Реализация сервиса для управления пользователями.
  * Этот сервис предоставляет методы для выполнения
  * CRUD-операций над сущностями пользователей.
+ * Поиск пользователей по идентификатору, имени и email выполняется
+ * через {@link UserCache}, который сбрасывается при изменении пользователя.
+ * Загруженный пользователь помещается в кэш с отметкой начала загрузки,
+ * поэтому снимок, прочитанный до параллельного изменения, в кэш не попадает.
  */
 @Service
 public class UserServiceImpl implements
@@ -22,6 +30,18 @@ public class UserServiceImpl implements
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private EntityCacheService entityCacheService;
+
     /**
      * Получает пользователя по его уникальному идентификатору.
      *
@@ -30,9 +50,14 @@ public class UserServiceImpl implements
      * @throws ResourceNotFoundException если пользователь с указанным ID не существует.
      */
     public User getUserById(Long id) {
-        return userRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException
-                        ("User with id " + id + " not found"));
+        return userCache.getById(id).orElseGet(() -> {
+            long loadStamp = userCache.loadStamp();
+            User user = userRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException
+                            ("User with id " + id + " not found"));
+            userCache.put(user, loadStamp);
+            return user;
+        });
     }
 
     /**
@@ -42,7 +67,12 @@ public class UserServiceImpl implements
      * @return пользователь с указанным именем,
      */
     public User getUserByUsername(String username) {
-        return userRepository.findByUsername(username);
+        return userCache.getByUsername(username).orElseGet(() -> {
+            long loadStamp = userCache.loadStamp();
+            User user = userRepository.findByUsername(username);
+            userCache.put(user, loadStamp);
+            return user;
+        });
     }
 
     /**
@@ -52,9 +82,14 @@ public class UserServiceImpl implements
      * @return пользователь с указанным адресом электронной почты.
       */
     public User getUserByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException
-                        ("User with email " + email + " not found"));
+        return userCache.getByEmail(email).orElseGet(() -> {
+            long loadStamp = userCache.loadStamp();
+            User user = userRepository.findByEmail(email)
+                    .orElseThrow(() -> new ResourceNotFoundException
+                            ("User with email " + email + " not found"));
+            userCache.put(user, loadStamp);
+            return user;
+        });
     }
 
     /**
@@ -79,10 +114,13 @@ public class UserServiceImpl implements
      * @return обновленный пользователь.
      */
     public User updateUser(Long id, User user) {
-        User existingUser = getUserById(id);
+        User existingUser = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException
+                        ("User with id " + id + " not found"));
+        userCache.evict(existingUser);
         existingUser.setEmail(user.getEmail());
         existingUser.setPassword(user.getPassword());
-        return existingUser;
+        return saveUser(existingUser);
     }
 
     /**
@@ -93,19 +131,26 @@ public class UserServiceImpl implements
      * @return обновленный пользователь.
      */
     public User updateByUsername(String username, User user) {
-        User existingUser = getUserByUsername(username);
+        User existingUser = userRepository.findByUsername(username);
+        userCache.evict(existingUser);
         existingUser.setEmail(user.getEmail());
         existingUser.setPassword(user.getPassword());
-        return existingUser;
+        return saveUser(existingUser);
     }
 
     /**
-     * Удаляет пользователя по идентификатору.
+     * Удаляет пользователя по идентификатору. Задачи и назначения
+     * пользователя удаляются базой данных каскадно, поэтому после
+     * удаления они сбрасываются из кэша второго уровня.
      *
      * @param id идентификатор пользователя для удаления.
      */
     public void deleteUser(Long id) {
         userRepository.deleteById(id);
+        entityCacheService.evictUserData();
+        userCache.evictById(id);
+        tokenRevocationService.revoke(id);
+        taskSearchIndex.userDeleted(id);
     }
 
     /**
@@ -114,17 +159,29 @@ public class UserServiceImpl implements
      * @param username имя пользователя, которого нужно удалить.
      */
     public void deleteUserByUsername(String username) {
+        User user = getUserByUsername(username);
         userRepository.deleteByUsername(username);
+        entityCacheService.evictUserData();
+        if (user != null) {
+            userCache.evict(user);
+            tokenRevocationService.revoke(user.getId());
+            taskSearchIndex.userDeleted(user.getId());
+        }
     }
 
     /**
-     * Сохраните сущности в БД
+     * Сохраните сущности в БД. Поисковый индекс обновляет имя автора
+     * в задачах пользователя.
      *
      * @param user пользователь для сохранения
      * @return сохраненный пользователь.
      */
     public User saveUser(User user) {
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        userCache.evict(savedUser);
+        tokenRevocationService.revoke(savedUser.getId());
+        taskSearchIndex.userChanged(savedUser.getId(), savedUser.getUsername());
+        return savedUser;
     }
 
     /**
@@ -0,0 +1,286 @@
+package com.company.taskmanager.services.user.cache;
+
+import com.company.taskmanager.models.user.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Реализация {@link UserCache} в памяти процесса на основе Caffeine.
+ * <p>
+ * Пользователи хранятся по идентификатору, а имя пользователя и email
+ * ссылаются на идентификатор через вторичные индексы. В кэше хранятся
+ * копии сущностей без коллекций, а наружу выдается новая копия, поэтому
+ * изменения, внесенные вызывающим кодом, не попадают в кэш.
+ * </p>
+ * <p>
+ * Каждый сброс получает отметку из монотонного счетчика, которая хранится
+ * для идентификатора пользователя в течение времени жизни записи.
+ * Пользователь, загруженный из базы данных, помещается в кэш только если
+ * его не сбрасывали после начала загрузки; проверка и запись выполняются
+ * атомарно с удалением записи.
+ * </p>
+ * <p>
+ * При наличии кэша второго уровня промахи разрешаются через него,
+ * а запись и инвалидация распространяются на оба уровня.
+ * </p>
+ */
+public class CaffeineUserCache implements UserCache {
+    private final Cache<Long, User> usersById;
+    private final Cache<String, Long> idsByUsername;
+    private final Cache<String, Long> idsByEmail;
+    private final SecondLevelUserCache secondLevel;
+
+    /**
+     * Отметки последнего сброса по идентификатору пользователя.
+     */
+    private final Cache<Long, Long> evictedAt;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private volatile long clearedAt;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Конструктор кэша пользователей.
+     *
+     * @param maxSize     максимальное количество пользователей в кэше
+     * @param ttl         время жизни записи
+     * @param secondLevel кэш второго уровня или {@code null}
+     */
+    public CaffeineUserCache(long maxSize, Duration ttl,
+                             SecondLevelUserCache secondLevel) {
+        this.usersById = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.idsByUsername = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.idsByEmail = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.evictedAt = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .build();
+        this.secondLevel = secondLevel;
+    }
+
+    @Override
+    public Optional<User> getById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        User user = usersById.getIfPresent(id);
+        if (user != null) {
+            hits.increment();
+            return Optional.of(copy(user));
+        }
+        return fromSecondLevel(secondLevel != null
+                ? secondLevel.getById(id) : Optional.empty());
+    }
+
+    @Override
+    public Optional<User> getByUsername(String username) {
+        if (username == null) {
+            return Optional.empty();
+        }
+        Long id = idsByUsername.getIfPresent(username);
+        User user = id != null ? usersById.getIfPresent(id) : null;
+        if (user != null && username.equals(user.getUsername())) {
+            hits.increment();
+            return Optional.of(copy(user));
+        }
+        return fromSecondLevel(secondLevel != null
+                ? secondLevel.getByUsername(username) : Optional.empty());
+    }
+
+    @Override
+    public Optional<User> getByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        Long id = idsByEmail.getIfPresent(email);
+        User user = id != null ? usersById.getIfPresent(id) : null;
+        if (user != null && email.equals(user.getEmail())) {
+            hits.increment();
+            return Optional.of(copy(user));
+        }
+        return fromSecondLevel(secondLevel != null
+                ? secondLevel.getByEmail(email) : Optional.empty());
+    }
+
+    @Override
+    public void put(User user) {
+        putLocal(user);
+        if (secondLevel != null && user != null && user.getId() != null) {
+            secondLevel.put(user);
+        }
+    }
+
+    @Override
+    public long loadStamp() {
+        return clock.get();
+    }
+
+    @Override
+    public void put(User user, long loadStamp) {
+        if (user == null || user.getId() == null) {
+            return;
+        }
+        User snapshot = copy(user);
+        boolean[] stored = {false};
+        usersById.asMap().compute(snapshot.getId(), (id, cached) -> {
+            Long evicted = evictedAt.getIfPresent(id);
+            if (clearedAt > loadStamp
+                    || evicted != null && evicted > loadStamp) {
+                return cached;
+            }
+            stored[0] = true;
+            return snapshot;
+        });
+        if (!stored[0]) {
+            return;
+        }
+        putIndexes(snapshot);
+        if (secondLevel != null) {
+            secondLevel.put(user);
+        }
+    }
+
+    @Override
+    public void evict(User user) {
+        if (user == null) {
+            return;
+        }
+        evictById(user.getId());
+        if (user.getUsername() != null) {
+            idsByUsername.invalidate(user.getUsername());
+        }
+        if (user.getEmail() != null) {
+            idsByEmail.invalidate(user.getEmail());
+        }
+        if (secondLevel != null) {
+            secondLevel.evict(user);
+        }
+    }
+
+    @Override
+    public void evictById(Long id) {
+        if (id == null) {
+            return;
+        }
+        User[] removed = {null};
+        usersById.asMap().compute(id, (key, cached) -> {
+            evictedAt.put(key, clock.incrementAndGet());
+            removed[0] = cached;
+            return null;
+        });
+        User cached = removed[0];
+        if (cached != null) {
+            idsByUsername.invalidate(cached.getUsername());
+            if (cached.getEmail() != null) {
+                idsByEmail.invalidate(cached.getEmail());
+            }
+        }
+        if (secondLevel != null) {
+            secondLevel.evictById(id);
+        }
+    }
+
+    @Override
+    public void clear() {
+        clearedAt = clock.incrementAndGet();
+        usersById.invalidateAll();
+        idsByUsername.invalidateAll();
+        idsByEmail.invalidateAll();
+        if (secondLevel != null) {
+            secondLevel.clear();
+        }
+    }
+
+    /**
+     * Возвращает статистику попаданий и промахов кэша.
+     *
+     * @return снимок статистики
+     */
+    public UserCacheStats stats() {
+        return new UserCacheStats(hits.sum(), misses.sum(),
+                usersById.stats().evictionCount(),
+                usersById.estimatedSize());
+    }
+
+    /**
+     * Учитывает результат обращения к кэшу второго уровня и при попадании
+     * сохраняет пользователя в локальном кэше.
+     *
+     * @param user результат обращения к кэшу второго уровня
+     * @return копия пользователя или пустой результат
+     */
+    private Optional<User> fromSecondLevel(Optional<User> user) {
+        if (user.isEmpty()) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        putLocal(user.get());
+        return Optional.of(copy(user.get()));
+    }
+
+    /**
+     * Помещает пользователя только в локальный кэш.
+     *
+     * @param user пользователь
+     */
+    private void putLocal(User user) {
+        if (user == null || user.getId() == null) {
+            return;
+        }
+        User snapshot = copy(user);
+        usersById.put(snapshot.getId(), snapshot);
+        putIndexes(snapshot);
+    }
+
+    /**
+     * Добавляет имя пользователя и email во вторичные индексы.
+     *
+     * @param snapshot копия пользователя из кэша
+     */
+    private void putIndexes(User snapshot) {
+        if (snapshot.getUsername() != null) {
+            idsByUsername.put(snapshot.getUsername(), snapshot.getId());
+        }
+        if (snapshot.getEmail() != null) {
+            idsByEmail.put(snapshot.getEmail(), snapshot.getId());
+        }
+    }
+
+    /**
+     * Создает копию пользователя без связанных коллекций.
+     *
+     * @param user пользователь
+     * @return копия пользователя
+     */
+    private static User copy(User user) {
+        return User.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .password(user.getPassword())
+                .role(user.getRole())
+                .email(user.getEmail())
+                .priority(user.getPriority())
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .version(user.getVersion())
+                .build();
+    }
+}
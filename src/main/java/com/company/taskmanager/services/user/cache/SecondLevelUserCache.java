@@ -0,0 +1,14 @@
+package com.company.taskmanager.services.user.cache;
+
+/**
+ * Точка расширения для подключения кэша пользователей второго уровня
+ * (например, распределенного кэша, общего для нескольких экземпляров
+ * приложения).
+ * <p>
+ * Если в контексте приложения зарегистрирован бин этого типа, встроенный
+ * кэш {@link CaffeineUserCache} обращается к нему при промахе и
+ * распространяет на него запись и инвалидацию.
+ * </p>
+ */
+public interface SecondLevelUserCache extends UserCache {
+}
@@ -0,0 +1,85 @@
+package com.company.taskmanager.services.user.cache;
+
+import com.company.taskmanager.models.user.User;
+
+import java.util.Optional;
+
+/**
+ * Кэш пользователей с доступом по нескольким ключам: идентификатору,
+ * имени пользователя (username) и адресу электронной почты.
+ * <p>
+ * Интерфейс используется как для встроенного кэша в памяти процесса,
+ * так и для подключаемых реализаций второго уровня
+ * (см. {@link SecondLevelUserCache}).
+ * </p>
+ */
+public interface UserCache {
+
+    /**
+     * Получает пользователя из кэша по идентификатору.
+     *
+     * @param id уникальный идентификатор пользователя
+     * @return {@link Optional<User>} с пользователем или пустой при промахе
+     */
+    Optional<User> getById(Long id);
+
+    /**
+     * Получает пользователя из кэша по имени пользователя.
+     *
+     * @param username имя пользователя
+     * @return {@link Optional<User>} с пользователем или пустой при промахе
+     */
+    Optional<User> getByUsername(String username);
+
+    /**
+     * Получает пользователя из кэша по адресу электронной почты.
+     *
+     * @param email адрес электронной почты пользователя
+     * @return {@link Optional<User>} с пользователем или пустой при промахе
+     */
+    Optional<User> getByEmail(String email);
+
+    /**
+     * Помещает пользователя в кэш под всеми его ключами.
+     *
+     * @param user пользователь
+     */
+    void put(User user);
+
+    /**
+     * Возвращает отметку, которую нужно получить до чтения пользователя
+     * из базы данных и передать в {@link #put(User, long)}.
+     *
+     * @return отметка начала загрузки
+     */
+    long loadStamp();
+
+    /**
+     * Помещает в кэш пользователя, загруженного после получения отметки,
+     * если после нее пользователь не сбрасывался из кэша. Иначе
+     * прочитанный до изменения снимок вернулся бы в кэш.
+     *
+     * @param user      пользователь
+     * @param loadStamp отметка, полученная до чтения пользователя
+     */
+    void put(User user, long loadStamp);
+
+    /**
+     * Удаляет пользователя из кэша по всем его ключам.
+     *
+     * @param user пользователь
+     */
+    void evict(User user);
+
+    /**
+     * Удаляет пользователя из кэша по идентификатору.
+     *
+     * @param id уникальный идентификатор пользователя
+     */
+    void evictById(Long id);
+
+    /**
+     * Полностью очищает кэш.
+     */
+    void clear();
+}
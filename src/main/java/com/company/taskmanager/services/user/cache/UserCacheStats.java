@@ -0,0 +1,40 @@
+package com.company.taskmanager.services.user.cache;
+
+import lombok.Value;
+
+/**
+ * Снимок статистики работы кэша пользователей.
+ */
+@Value
+public class UserCacheStats {
+
+    /**
+     * Количество обращений, обслуженных кэшем.
+     */
+    long hitCount;
+
+    /**
+     * Количество обращений, не найденных в кэше.
+     */
+    long missCount;
+
+    /**
+     * Количество записей, вытесненных по размеру или времени жизни.
+     */
+    long evictionCount;
+
+    /**
+     * Текущее количество пользователей в кэше.
+     */
+    long size;
+
+    /**
+     * Доля обращений, обслуженных кэшем.
+     *
+     * @return значение от 0 до 1 или {@code null}, если обращений не было
+     */
+    public Double getHitRate() {
+        long total = hitCount + missCount;
+        return total == 0 ? null : (double) hitCount / total;
+    }
+}
@@ -2,6 +2,7 @@ package com.company.taskmanager.utils;
 
 import com.company.taskmanager.dtos.CommentDto;
 import com.company.taskmanager.models.comment.Comment;
+import com.company.taskmanager.repositories.comment.CommentView;
 
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -23,6 +24,14 @@ public abstract class CommentMapper {
     @Mapping(source = "user.username", target = "username")
     public abstract CommentDto commentToCommentDto(Comment comment);
 
+    /**
+     * Преобразует проекцию CommentView в CommentDto
+     *
+     * @param commentView проекция комментария
+     * @return CommentDto
+     */
+    public abstract CommentDto commentViewToCommentDto(CommentView commentView);
+
     /**
      * Преобразует сущность CommentDto в Comment
      *
@@ -0,0 +1,87 @@
+package com.company.taskmanager.utils;
+
+import com.company.taskmanager.exceptions.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Кодирует курсоры постраничного просмотра в непрозрачные строки.
+ * <p>
+ * Курсор хранится как значения ключа, разделенные двоеточием и закодированные
+ * в Base64 для URL. Любая ошибка разбора курсора, полученного от клиента,
+ * превращается в {@link BadRequestException}.
+ * </p>
+ */
+public final class CursorCodec {
+    private static final String SEPARATOR = ":";
+
+    private CursorCodec() {
+    }
+
+    /**
+     * Кодирует значения ключа курсора.
+     *
+     * @param parts значения ключа
+     * @return строковое представление курсора
+     */
+    public static String encode(Object... parts) {
+        String raw = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining(SEPARATOR));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Декодирует курсор, полученный от клиента.
+     *
+     * @param value  строковое представление курсора
+     * @param size   ожидаемое количество значений ключа
+     * @param parser функция, создающая курсор из значений ключа
+     * @param <T>    тип курсора
+     * @return курсор
+     * @throws BadRequestException если курсор поврежден
+     */
+    public static <T> T decode(String value, int size,
+                               Function<String[], T> parser) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(value),
+                    StandardCharsets.UTF_8).split(SEPARATOR, -1);
+            if (parts.length != size) {
+                throw invalid();
+            }
+            return parser.apply(parts);
+        } catch (IllegalArgumentException | DateTimeException
+                 | ArithmeticException e) {
+            throw invalid();
+        }
+    }
+
+    /**
+     * Восстанавливает момент времени, закодированный секундами
+     * и наносекундами.
+     *
+     * @param seconds секунды от начала эпохи
+     * @param nanos   наносекунды
+     * @return момент времени
+     */
+    public static Instant parseInstant(String seconds, String nanos) {
+        return Instant.ofEpochSecond(Long.parseLong(seconds),
+                Long.parseLong(nanos));
+    }
+
+    /**
+     * Создает исключение для поврежденного курсора.
+     *
+     * @return исключение
+     */
+    public static BadRequestException invalid() {
+        return new BadRequestException("Invalid cursor");
+    }
+}
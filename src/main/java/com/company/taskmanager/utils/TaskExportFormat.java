@@ -0,0 +1,45 @@
+package com.company.taskmanager.utils;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Формат выгрузки задач.
+ */
+public enum TaskExportFormat {
+
+    /**
+     * JSON-объект задачи на каждой строке.
+     */
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+
+    /**
+     * CSV с заголовком, одна задача на строку.
+     */
+    CSV(new MediaType("text", "csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    TaskExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    /**
+     * Возвращает тип содержимого ответа.
+     *
+     * @return тип содержимого
+     */
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Возвращает расширение файла выгрузки.
+     *
+     * @return расширение файла
+     */
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,136 @@
+package com.company.taskmanager.utils;
+
+import com.company.taskmanager.dtos.CommentDto;
+import com.company.taskmanager.dtos.TaskDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+
+/**
+ * Записывает задачи в поток выгрузки в формате {@link TaskExportFormat}
+ * по одной, не накапливая их в памяти.
+ * <p>
+ * В формате CSV исполнители перечисляются через {@code "; "}, а комментарии
+ * записываются как {@code username: text} через {@code " | "}.
+ * </p>
+ */
+public class TaskExportWriter {
+    private static final String[] CSV_HEADER = {"id", "title", "description",
+            "status", "priority", "author", "executors", "comments"};
+
+    private final ObjectMapper objectMapper;
+    private final TaskExportFormat format;
+    private final Writer writer;
+
+    /**
+     * Создает writer выгрузки и, для CSV, записывает заголовок.
+     *
+     * @param objectMapper объект для сериализации JSON
+     * @param format       формат выгрузки
+     * @param output       поток ответа
+     */
+    public TaskExportWriter(ObjectMapper objectMapper, TaskExportFormat format,
+                            OutputStream output) {
+        this.objectMapper = objectMapper;
+        this.format = format;
+        this.writer = new BufferedWriter(
+                new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        if (format == TaskExportFormat.CSV) {
+            writeCsvRow(CSV_HEADER);
+        }
+    }
+
+    /**
+     * Записывает задачу.
+     *
+     * @param task задача
+     * @throws UncheckedIOException если запись в поток не удалась
+     */
+    public void write(TaskDto task) {
+        try {
+            if (format == TaskExportFormat.NDJSON) {
+                objectMapper.writer()
+                        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                        .writeValue(writer, task);
+                writer.write('\n');
+            } else {
+                writeCsvRow(new String[]{
+                        String.valueOf(task.getId()),
+                        task.getTitle(),
+                        task.getDescription(),
+                        task.getStatus() != null ? task.getStatus().name() : null,
+                        task.getPriority() != null ? task.getPriority().name() : null,
+                        task.getAuthor(),
+                        String.join("; ", task.getExecutors()),
+                        task.getComments().stream()
+                                .map(TaskExportWriter::formatComment)
+                                .collect(Collectors.joining(" | "))});
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Сбрасывает накопленные данные в поток ответа.
+     *
+     * @throws IOException если запись в поток не удалась
+     */
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * Записывает строку CSV.
+     *
+     * @param values значения колонок
+     */
+    private void writeCsvRow(String[] values) {
+        try {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escapeCsv(values[i]));
+            }
+            writer.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Экранирует значение колонки CSV.
+     *
+     * @param value значение
+     * @return значение, при необходимости заключенное в кавычки
+     */
+    private static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Форматирует комментарий для колонки CSV.
+     *
+     * @param comment комментарий
+     * @return строка {@code username: text}
+     */
+    private static String formatComment(CommentDto comment) {
+        return comment.getUsername() + ": " + comment.getText();
+    }
+}
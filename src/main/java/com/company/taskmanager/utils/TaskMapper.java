@@ -1,15 +1,21 @@
 package com.company.taskmanager.utils;
 
 import com.company.taskmanager.dtos.TaskDto;
+import com.company.taskmanager.dtos.TaskSearchHitDto;
 import com.company.taskmanager.models.task.Task;
 import com.company.taskmanager.models.user.User;
+import com.company.taskmanager.repositories.task.TaskListView;
+import com.company.taskmanager.repositories.task.TaskSearchView;
 import com.company.taskmanager.services.user.UserService;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -38,6 +44,39 @@ public abstract class TaskMapper {
             qualifiedByName = "mapToDtoExecutors")
     public abstract TaskDto taskToTaskDto(Task task);
 
+    /**
+     * Преобразование сущности Task в TaskDto без комментариев
+     *
+     * @param task сущность Task
+     * @return TaskDto
+     */
+    @Named("taskToTaskDtoWithoutComments")
+    @Mapping(target = "comments", ignore = true)
+    @Mapping(source = "author.username", target = "author")
+    @Mapping(source = "executors", target = "executors",
+            qualifiedByName = "mapToDtoExecutors")
+    public abstract TaskDto taskToTaskDtoWithoutComments(Task task);
+
+    /**
+     * Преобразование проекции TaskListView в TaskDto без комментариев
+     *
+     * @param view проекция задачи
+     * @return TaskDto
+     */
+    @Mapping(target = "comments", ignore = true)
+    @Mapping(source = "executors", target = "executors",
+            qualifiedByName = "mapViewExecutors")
+    public abstract TaskDto taskListViewToTaskDto(TaskListView view);
+
+    /**
+     * Преобразование проекции TaskSearchView в TaskSearchHitDto
+     *
+     * @param view проекция найденной задачи
+     * @return TaskSearchHitDto
+     */
+    public abstract TaskSearchHitDto taskSearchViewToTaskSearchHitDto(
+            TaskSearchView view);
+
     /**
      * Преобразование сущности TaskDto в Task
      *
@@ -58,10 +97,13 @@ public abstract class TaskMapper {
      * Преобразует username в сущность User.
      *
      * @param username имя пользователя
-     * @return сущность User
+     * @return сущность User или {@code null}, если имя не указано
      */
     @Named("mapUsernameToUser")
     public User mapUsernameToUser(String username) {
+        if (username == null) {
+            return null;
+        }
         return userService.getUserByUsername(username);
     }
 
@@ -78,6 +120,22 @@ public abstract class TaskMapper {
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Преобразует агрегированную строку имен исполнителей из проекции
+     * в набор имен.
+     *
+     * @param executors имена исполнителей, объединенные разделителем
+     * @return набор имен исполнителей
+     */
+    @Named("mapViewExecutors")
+    public Set<String> mapViewExecutors(String executors) {
+        if (executors == null || executors.isEmpty()) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(Arrays.asList(executors.split(
+                Pattern.quote(TaskListView.EXECUTOR_SEPARATOR))));
+    }
+
     /**
      * Преобразует набор строковых идентификаторов исполнителей в набор сущностей User.
      *
@@ -1,6 +1,8 @@
 package com.company.taskmanager.utils;
 
+import com.company.taskmanager.dtos.TaskStatsDto;
 import com.company.taskmanager.dtos.UserDto;
+import com.company.taskmanager.dtos.UserProfileDto;
 import com.company.taskmanager.models.user.User;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -21,6 +23,20 @@ public abstract class UserMapper {
     @Mapping(source = "tasks", target = "tasks")
     public abstract UserDto userToUserDto(User user);
 
+    /**
+     * Формирует профиль пользователя со сводными счетчиками задач.
+     *
+     * @param user  сущность User
+     * @param stats счетчики задач пользователя
+     * @return объект UserProfileDto
+     */
+    @Mapping(source = "user.id", target = "id")
+    @Mapping(source = "user.username", target = "username")
+    @Mapping(source = "user.email", target = "email")
+    @Mapping(source = "stats", target = "stats")
+    public abstract UserProfileDto userToUserProfileDto(User user,
+                                                        TaskStatsDto stats);
+
     /**
      * Преобразует сущность User в UserDto.
      *
@@ -0,0 +1,65 @@
+CREATE TABLE users (
+    ID BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    EMAIL VARCHAR(255),
+    USERNAME VARCHAR(255) NOT NULL,
+    PASSWORD VARCHAR(255) NOT NULL,
+    PRIORITY INTEGER,
+    ROLE VARCHAR(255) CHECK (ROLE IN ('ADMIN','USER')),
+    CREATED_AT TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP,
+    UPDATED_AT TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP,
+    VERSION BIGINT DEFAULT 1,
+    PRIMARY KEY (ID),
+    CONSTRAINT UK_USERS_USERNAME UNIQUE (USERNAME),
+    CONSTRAINT UK_USERS_EMAIL UNIQUE (EMAIL)
+);
+
+CREATE TABLE tasks (
+    ID BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    TITLE VARCHAR(255) NOT NULL,
+    DESCRIPTION VARCHAR(255),
+    PRIORITY VARCHAR(255) CHECK (PRIORITY IN ('CRITICAL','HIGH','MEDIUM','LOW')),
+    STATUS VARCHAR(255) CHECK (STATUS IN ('NOT_LAUNCH','IN_PROCESS','DONE')),
+    CREATED_AT TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP,
+    UPDATED_AT TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP,
+    VERSION BIGINT DEFAULT 1,
+    AUTHOR_ID BIGINT NOT NULL,
+    PRIMARY KEY (ID),
+    CONSTRAINT FK_TASKS_AUTHOR FOREIGN KEY (AUTHOR_ID) REFERENCES users (ID)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX IDX_TASKS_AUTHOR_CREATED ON tasks (AUTHOR_ID, CREATED_AT, ID);
+CREATE INDEX IDX_TASKS_AUTHOR_UPDATED ON tasks (AUTHOR_ID, UPDATED_AT, ID);
+CREATE INDEX IDX_TASKS_AUTHOR_STATUS_CREATED ON tasks (AUTHOR_ID, STATUS, CREATED_AT);
+CREATE INDEX IDX_TASKS_AUTHOR_PRIORITY_CREATED ON tasks (AUTHOR_ID, PRIORITY, CREATED_AT);
+CREATE INDEX IDX_TASKS_STATUS_PRIORITY_CREATED ON tasks (STATUS, PRIORITY, CREATED_AT);
+
+CREATE TABLE comments (
+    ID BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    TEXT VARCHAR(255),
+    CREATED_AT TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP,
+    UPDATED_AT TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP,
+    VERSION BIGINT DEFAULT 1,
+    TASK_ID BIGINT NOT NULL,
+    USER_ID BIGINT NOT NULL,
+    PRIMARY KEY (ID),
+    CONSTRAINT FK_COMMENTS_TASK FOREIGN KEY (TASK_ID) REFERENCES tasks (ID)
+        ON DELETE CASCADE,
+    CONSTRAINT FK_COMMENTS_USER FOREIGN KEY (USER_ID) REFERENCES users (ID)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX IDX_COMMENTS_TASK ON comments (TASK_ID);
+CREATE INDEX IDX_COMMENTS_USER ON comments (USER_ID);
+
+CREATE TABLE task_executors (
+    TASK_ID BIGINT NOT NULL,
+    USER_ID BIGINT NOT NULL,
+    PRIMARY KEY (TASK_ID, USER_ID),
+    CONSTRAINT FK_TASK_EXECUTORS_TASK FOREIGN KEY (TASK_ID) REFERENCES tasks (ID)
+        ON DELETE CASCADE,
+    CONSTRAINT FK_TASK_EXECUTORS_USER FOREIGN KEY (USER_ID) REFERENCES users (ID)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX IDX_TASK_EXECUTORS_USER_TASK ON task_executors (USER_ID, TASK_ID);
@@ -0,0 +1,14 @@
+ALTER TABLE users ALTER COLUMN ID DROP IDENTITY IF EXISTS;
+ALTER TABLE tasks ALTER COLUMN ID DROP IDENTITY IF EXISTS;
+ALTER TABLE comments ALTER COLUMN ID DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE users_seq INCREMENT BY 50;
+CREATE SEQUENCE tasks_seq INCREMENT BY 50;
+CREATE SEQUENCE comments_seq INCREMENT BY 50;
+
+-- Hibernate (оптимизатор pooled) считает значение последовательности
+-- верхней границей блока из 50 идентификаторов, поэтому первое значение
+-- должно быть не меньше MAX(ID) + 50.
+SELECT setval('users_seq', COALESCE(MAX(ID), 0) + 50, false) FROM users;
+SELECT setval('tasks_seq', COALESCE(MAX(ID), 0) + 50, false) FROM tasks;
+SELECT setval('comments_seq', COALESCE(MAX(ID), 0) + 50, false) FROM comments;
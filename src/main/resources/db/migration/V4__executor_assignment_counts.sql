@@ -0,0 +1,45 @@
+-- Количество задач, назначенных каждому пользователю. Поддерживается
+-- триггерами уровня оператора, поэтому массовые INSERT/DELETE
+-- в task_executors обновляют каждого пользователя один раз.
+CREATE TABLE executor_assignment_counts (
+    USER_ID BIGINT NOT NULL,
+    ASSIGNED_COUNT BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (USER_ID),
+    CONSTRAINT FK_EXECUTOR_ASSIGNMENT_COUNTS_USER FOREIGN KEY (USER_ID)
+        REFERENCES users (ID) ON DELETE CASCADE
+);
+
+INSERT INTO executor_assignment_counts (USER_ID, ASSIGNED_COUNT)
+SELECT USER_ID, COUNT(*) FROM task_executors GROUP BY USER_ID;
+
+CREATE FUNCTION executor_assignment_counts_insert() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO executor_assignment_counts AS c (USER_ID, ASSIGNED_COUNT)
+    SELECT USER_ID, COUNT(*) FROM inserted
+    GROUP BY USER_ID
+    ORDER BY USER_ID
+    ON CONFLICT (USER_ID)
+        DO UPDATE SET ASSIGNED_COUNT = c.ASSIGNED_COUNT + EXCLUDED.ASSIGNED_COUNT;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION executor_assignment_counts_delete() RETURNS trigger AS $$
+BEGIN
+    UPDATE executor_assignment_counts c
+    SET ASSIGNED_COUNT = c.ASSIGNED_COUNT - d.REMOVED
+    FROM (SELECT USER_ID, COUNT(*) AS REMOVED FROM deleted GROUP BY USER_ID) d
+    WHERE c.USER_ID = d.USER_ID;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER TRG_TASK_EXECUTORS_COUNT_INSERT
+    AFTER INSERT ON task_executors
+    REFERENCING NEW TABLE AS inserted
+    FOR EACH STATEMENT EXECUTE FUNCTION executor_assignment_counts_insert();
+
+CREATE TRIGGER TRG_TASK_EXECUTORS_COUNT_DELETE
+    AFTER DELETE ON task_executors
+    REFERENCING OLD TABLE AS deleted
+    FOR EACH STATEMENT EXECUTE FUNCTION executor_assignment_counts_delete();
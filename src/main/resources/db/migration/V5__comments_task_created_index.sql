@@ -0,0 +1,4 @@
+-- Комментарии задачи читаются страницами по (created_at, id), поэтому
+-- индекс по task_id заменяется составным индексом в порядке чтения.
+DROP INDEX IDX_COMMENTS_TASK;
+CREATE INDEX IDX_COMMENTS_TASK_CREATED ON comments (TASK_ID, CREATED_AT, ID);
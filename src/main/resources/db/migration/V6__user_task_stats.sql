@@ -0,0 +1,185 @@
+-- Количество задач пользователя в разрезе роли (автор или исполнитель),
+-- статуса и приоритета. Поддерживается триггерами на tasks
+-- и task_executors, поэтому статистика пользователя читается по
+-- первичному ключу без обращения к задачам. Задачи без статуса или
+-- приоритета не учитываются.
+CREATE TABLE user_task_stats (
+    USER_ID BIGINT NOT NULL,
+    ROLE_IN_TASK VARCHAR(255) NOT NULL CHECK (ROLE_IN_TASK IN ('AUTHOR','EXECUTOR')),
+    STATUS VARCHAR(255) NOT NULL,
+    PRIORITY VARCHAR(255) NOT NULL,
+    TASK_COUNT BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (USER_ID, ROLE_IN_TASK, STATUS, PRIORITY),
+    CONSTRAINT FK_USER_TASK_STATS_USER FOREIGN KEY (USER_ID)
+        REFERENCES users (ID) ON DELETE CASCADE
+);
+
+-- Применяет изменения количеств, суммируя их по ключу. Строки обновляются
+-- в порядке ключа, чтобы параллельные транзакции не блокировали друг
+-- друга взаимно. Уменьшение для удаленного пользователя пропускается:
+-- его строки уже удалены каскадом.
+CREATE FUNCTION user_task_stats_apply(user_ids BIGINT[], roles TEXT[],
+                                      statuses TEXT[], priorities TEXT[],
+                                      deltas BIGINT[]) RETURNS void AS $$
+    INSERT INTO user_task_stats AS s (USER_ID, ROLE_IN_TASK, STATUS, PRIORITY, TASK_COUNT)
+    SELECT d.USER_ID, d.ROLE_IN_TASK, d.STATUS, d.PRIORITY, SUM(d.DELTA)
+    FROM unnest(user_ids, roles, statuses, priorities, deltas)
+        AS d (USER_ID, ROLE_IN_TASK, STATUS, PRIORITY, DELTA)
+    WHERE d.STATUS IS NOT NULL AND d.PRIORITY IS NOT NULL
+    GROUP BY d.USER_ID, d.ROLE_IN_TASK, d.STATUS, d.PRIORITY
+    HAVING SUM(d.DELTA) > 0
+        OR (SUM(d.DELTA) < 0
+            AND EXISTS (SELECT 1 FROM users u WHERE u.ID = d.USER_ID))
+    ORDER BY d.USER_ID, d.ROLE_IN_TASK, d.STATUS, d.PRIORITY
+    ON CONFLICT (USER_ID, ROLE_IN_TASK, STATUS, PRIORITY)
+        DO UPDATE SET TASK_COUNT = s.TASK_COUNT + EXCLUDED.TASK_COUNT;
+$$ LANGUAGE sql;
+
+CREATE FUNCTION user_task_stats_tasks_insert() RETURNS trigger AS $$
+BEGIN
+    PERFORM user_task_stats_apply(array_agg(AUTHOR_ID), array_agg('AUTHOR'::TEXT),
+                                  array_agg(STATUS), array_agg(PRIORITY),
+                                  array_agg(1::BIGINT))
+    FROM inserted;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Учитываются только строки, у которых изменились автор, статус или
+-- приоритет; обновления остальных полей статистику не затрагивают.
+CREATE FUNCTION user_task_stats_tasks_update() RETURNS trigger AS $$
+BEGIN
+    PERFORM user_task_stats_apply(array_agg(USER_ID), array_agg(ROLE_IN_TASK),
+                                  array_agg(STATUS), array_agg(PRIORITY),
+                                  array_agg(DELTA))
+    FROM (
+        WITH changed AS (
+            SELECT o.ID, o.AUTHOR_ID AS OLD_AUTHOR_ID, o.STATUS AS OLD_STATUS,
+                   o.PRIORITY AS OLD_PRIORITY, n.AUTHOR_ID AS NEW_AUTHOR_ID,
+                   n.STATUS AS NEW_STATUS, n.PRIORITY AS NEW_PRIORITY
+            FROM old_rows o
+            JOIN new_rows n ON n.ID = o.ID
+            WHERE (o.AUTHOR_ID, o.STATUS, o.PRIORITY)
+                IS DISTINCT FROM (n.AUTHOR_ID, n.STATUS, n.PRIORITY)
+        )
+        SELECT OLD_AUTHOR_ID AS USER_ID, 'AUTHOR' AS ROLE_IN_TASK,
+               OLD_STATUS AS STATUS, OLD_PRIORITY AS PRIORITY, -1::BIGINT AS DELTA
+        FROM changed
+        UNION ALL
+        SELECT NEW_AUTHOR_ID, 'AUTHOR', NEW_STATUS, NEW_PRIORITY, 1
+        FROM changed
+        UNION ALL
+        SELECT te.USER_ID, 'EXECUTOR', c.OLD_STATUS, c.OLD_PRIORITY, -1
+        FROM changed c
+        JOIN task_executors te ON te.TASK_ID = c.ID
+        UNION ALL
+        SELECT te.USER_ID, 'EXECUTOR', c.NEW_STATUS, c.NEW_PRIORITY, 1
+        FROM changed c
+        JOIN task_executors te ON te.TASK_ID = c.ID
+    ) d;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Назначения удаляемой задачи вычитаются до удаления строки: после него
+-- каскадное удаление task_executors уже не находит задачу, и триггер
+-- назначений их не учитывает. Если назначения удалены раньше задачи
+-- (как это делает Hibernate), здесь вычитать нечего.
+CREATE FUNCTION user_task_stats_tasks_before_delete() RETURNS trigger AS $$
+BEGIN
+    PERFORM user_task_stats_apply(array_agg(USER_ID), array_agg('EXECUTOR'::TEXT),
+                                  array_agg(OLD.STATUS), array_agg(OLD.PRIORITY),
+                                  array_agg(-1::BIGINT))
+    FROM task_executors
+    WHERE TASK_ID = OLD.ID;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION user_task_stats_tasks_delete() RETURNS trigger AS $$
+BEGIN
+    PERFORM user_task_stats_apply(array_agg(AUTHOR_ID), array_agg('AUTHOR'::TEXT),
+                                  array_agg(STATUS), array_agg(PRIORITY),
+                                  array_agg(-1::BIGINT))
+    FROM deleted;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION user_task_stats_executors_insert() RETURNS trigger AS $$
+BEGIN
+    PERFORM user_task_stats_apply(array_agg(i.USER_ID), array_agg('EXECUTOR'::TEXT),
+                                  array_agg(t.STATUS), array_agg(t.PRIORITY),
+                                  array_agg(1::BIGINT))
+    FROM inserted i
+    JOIN tasks t ON t.ID = i.TASK_ID;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION user_task_stats_executors_delete() RETURNS trigger AS $$
+BEGIN
+    PERFORM user_task_stats_apply(array_agg(d.USER_ID), array_agg('EXECUTOR'::TEXT),
+                                  array_agg(t.STATUS), array_agg(t.PRIORITY),
+                                  array_agg(-1::BIGINT))
+    FROM deleted d
+    JOIN tasks t ON t.ID = d.TASK_ID;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Полный пересчет статистики для устранения расхождений. Запись в задачи
+-- и назначения блокируется до конца транзакции, чтобы изменения,
+-- выполненные во время пересчета, не были потеряны.
+CREATE FUNCTION rebuild_user_task_stats() RETURNS BIGINT AS $$
+DECLARE
+    rebuilt BIGINT;
+BEGIN
+    LOCK TABLE tasks, task_executors IN SHARE MODE;
+    DELETE FROM user_task_stats;
+    INSERT INTO user_task_stats (USER_ID, ROLE_IN_TASK, STATUS, PRIORITY, TASK_COUNT)
+    SELECT AUTHOR_ID, 'AUTHOR', STATUS, PRIORITY, COUNT(*)
+    FROM tasks
+    WHERE STATUS IS NOT NULL AND PRIORITY IS NOT NULL
+    GROUP BY AUTHOR_ID, STATUS, PRIORITY
+    UNION ALL
+    SELECT te.USER_ID, 'EXECUTOR', t.STATUS, t.PRIORITY, COUNT(*)
+    FROM task_executors te
+    JOIN tasks t ON t.ID = te.TASK_ID
+    WHERE t.STATUS IS NOT NULL AND t.PRIORITY IS NOT NULL
+    GROUP BY te.USER_ID, t.STATUS, t.PRIORITY;
+    GET DIAGNOSTICS rebuilt = ROW_COUNT;
+    RETURN rebuilt;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT rebuild_user_task_stats();
+
+CREATE TRIGGER TRG_TASKS_STATS_INSERT
+    AFTER INSERT ON tasks
+    REFERENCING NEW TABLE AS inserted
+    FOR EACH STATEMENT EXECUTE FUNCTION user_task_stats_tasks_insert();
+
+CREATE TRIGGER TRG_TASKS_STATS_UPDATE
+    AFTER UPDATE ON tasks
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION user_task_stats_tasks_update();
+
+CREATE TRIGGER TRG_TASKS_STATS_BEFORE_DELETE
+    BEFORE DELETE ON tasks
+    FOR EACH ROW EXECUTE FUNCTION user_task_stats_tasks_before_delete();
+
+CREATE TRIGGER TRG_TASKS_STATS_DELETE
+    AFTER DELETE ON tasks
+    REFERENCING OLD TABLE AS deleted
+    FOR EACH STATEMENT EXECUTE FUNCTION user_task_stats_tasks_delete();
+
+CREATE TRIGGER TRG_TASK_EXECUTORS_STATS_INSERT
+    AFTER INSERT ON task_executors
+    REFERENCING NEW TABLE AS inserted
+    FOR EACH STATEMENT EXECUTE FUNCTION user_task_stats_executors_insert();
+
+CREATE TRIGGER TRG_TASK_EXECUTORS_STATS_DELETE
+    AFTER DELETE ON task_executors
+    REFERENCING OLD TABLE AS deleted
+    FOR EACH STATEMENT EXECUTE FUNCTION user_task_stats_executors_delete();
@@ -0,0 +1,16 @@
+-- Полнотекстовый поиск по задачам и комментариям. Векторы вычисляются
+-- самой базой данных как хранимые генерируемые столбцы, поэтому
+-- обновляются при любой вставке или изменении строки. Используется
+-- конфигурация 'simple' без стемминга: тексты бывают и на русском,
+-- и на английском, а поиск по префиксу покрывает словоформы.
+ALTER TABLE tasks ADD COLUMN SEARCH_VECTOR tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(TITLE, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(DESCRIPTION, '')), 'B')
+    ) STORED;
+
+ALTER TABLE comments ADD COLUMN SEARCH_VECTOR tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', coalesce(TEXT, ''))) STORED;
+
+CREATE INDEX IDX_TASKS_SEARCH ON tasks USING GIN (SEARCH_VECTOR);
+CREATE INDEX IDX_COMMENTS_SEARCH ON comments USING GIN (SEARCH_VECTOR);
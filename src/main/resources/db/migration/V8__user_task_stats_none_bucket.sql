@@ -0,0 +1,46 @@
+-- Задачи без статуса или приоритета учитываются в строках со значением
+-- 'NONE', чтобы сумма строк пользователя совпадала с количеством его
+-- задач. Функции V6 заменяются, триггеры продолжают их вызывать.
+CREATE OR REPLACE FUNCTION user_task_stats_apply(user_ids BIGINT[], roles TEXT[],
+                                                 statuses TEXT[], priorities TEXT[],
+                                                 deltas BIGINT[]) RETURNS void AS $$
+    INSERT INTO user_task_stats AS s (USER_ID, ROLE_IN_TASK, STATUS, PRIORITY, TASK_COUNT)
+    SELECT d.USER_ID, d.ROLE_IN_TASK, d.STATUS, d.PRIORITY, SUM(d.DELTA)
+    FROM (
+        SELECT u.USER_ID, u.ROLE_IN_TASK, COALESCE(u.STATUS, 'NONE') AS STATUS,
+               COALESCE(u.PRIORITY, 'NONE') AS PRIORITY, u.DELTA
+        FROM unnest(user_ids, roles, statuses, priorities, deltas)
+            AS u (USER_ID, ROLE_IN_TASK, STATUS, PRIORITY, DELTA)
+    ) d
+    GROUP BY d.USER_ID, d.ROLE_IN_TASK, d.STATUS, d.PRIORITY
+    HAVING SUM(d.DELTA) > 0
+        OR (SUM(d.DELTA) < 0
+            AND EXISTS (SELECT 1 FROM users u WHERE u.ID = d.USER_ID))
+    ORDER BY d.USER_ID, d.ROLE_IN_TASK, d.STATUS, d.PRIORITY
+    ON CONFLICT (USER_ID, ROLE_IN_TASK, STATUS, PRIORITY)
+        DO UPDATE SET TASK_COUNT = s.TASK_COUNT + EXCLUDED.TASK_COUNT;
+$$ LANGUAGE sql;
+
+CREATE OR REPLACE FUNCTION rebuild_user_task_stats() RETURNS BIGINT AS $$
+DECLARE
+    rebuilt BIGINT;
+BEGIN
+    LOCK TABLE tasks, task_executors IN SHARE MODE;
+    DELETE FROM user_task_stats;
+    INSERT INTO user_task_stats (USER_ID, ROLE_IN_TASK, STATUS, PRIORITY, TASK_COUNT)
+    SELECT AUTHOR_ID, 'AUTHOR', COALESCE(STATUS, 'NONE'), COALESCE(PRIORITY, 'NONE'),
+           COUNT(*)
+    FROM tasks
+    GROUP BY AUTHOR_ID, COALESCE(STATUS, 'NONE'), COALESCE(PRIORITY, 'NONE')
+    UNION ALL
+    SELECT te.USER_ID, 'EXECUTOR', COALESCE(t.STATUS, 'NONE'),
+           COALESCE(t.PRIORITY, 'NONE'), COUNT(*)
+    FROM task_executors te
+    JOIN tasks t ON t.ID = te.TASK_ID
+    GROUP BY te.USER_ID, COALESCE(t.STATUS, 'NONE'), COALESCE(t.PRIORITY, 'NONE');
+    GET DIAGNOSTICS rebuilt = ROW_COUNT;
+    RETURN rebuilt;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT rebuild_user_task_stats();
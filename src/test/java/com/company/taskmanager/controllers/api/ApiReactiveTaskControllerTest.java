@@ -0,0 +1,130 @@
+package com.company.taskmanager.controllers.api;
+
+import com.company.taskmanager.dtos.TaskDto;
+import com.company.taskmanager.responces.JwtAuthenticationResponse;
+import com.company.taskmanager.support.EmbeddedPostgresDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "task.reactive-api.enabled=true")
+@ActiveProfiles("postgres")
+class ApiReactiveTaskControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    private String authorToken;
+    private String executor;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresDatabase.register(registry);
+    }
+
+    @BeforeEach
+    void setUp() {
+        // Контекст и база данных общие для всех тестов класса
+        String suffix = Long.toString(System.nanoTime());
+        authorToken = signUp("author" + suffix);
+        executor = "executor" + suffix;
+        signUp(executor);
+    }
+
+    @Test
+    void tasksOfCurrentUserAreStreamed() {
+        createTask("First", Set.of());
+        createTask("Second", Set.of());
+
+        List<TaskDto> tasks = webTestClient.get()
+                .uri("/api/reactive/task?limit=10")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + authorToken)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(TaskDto.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertEquals(List.of("Second", "First"),
+                tasks.stream().map(TaskDto::getTitle).toList());
+    }
+
+    @Test
+    void tasksOfExecutorAreResolvedByUsername() {
+        createTask("Assigned", Set.of(executor));
+        createTask("Unassigned", Set.of());
+
+        List<TaskDto> tasks = webTestClient.get()
+                .uri("/api/reactive/task/executor/{username}", executor)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + authorToken)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(TaskDto.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertEquals(List.of("Assigned"),
+                tasks.stream().map(TaskDto::getTitle).toList());
+        assertEquals(Set.of(executor), tasks.get(0).getExecutors());
+    }
+
+    @Test
+    void unknownExecutorIsNotFound() {
+        webTestClient.get()
+                .uri("/api/reactive/task/executor/nobody")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + authorToken)
+                // Ошибка возвращается в формате JSON
+                .accept(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.NOT_FOUND)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("User not found");
+    }
+
+    private String signUp(String username) {
+        return webTestClient.post()
+                .uri("/api/auth/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("username", username,
+                        "email", username + "@mail.com",
+                        "password", "password"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(JwtAuthenticationResponse.class)
+                .returnResult()
+                .getResponseBody()
+                .getToken();
+    }
+
+    private void createTask(String title, Set<String> executors) {
+        webTestClient.post()
+                .uri("/api/task")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + authorToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("title", title,
+                        "status", "NOT_LAUNCH",
+                        "priority", "MEDIUM",
+                        "executors", executors))
+                .exchange()
+                .expectStatus().is2xxSuccessful();
+    }
+}
@@ -0,0 +1,82 @@
+package com.company.taskmanager.load;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Накапливает время ответа и количество ошибок по каждой точке входа
+ * и строит отчет с перцентилями и пропускной способностью.
+ */
+class LatencyRecorder {
+    private final Map<String, ConcurrentLinkedQueue<Long>> latencies =
+            new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    /**
+     * Сохраняет результат одного запроса.
+     *
+     * @param endpoint  точка входа
+     * @param nanos     время ответа, нс
+     * @param succeeded успешен ли запрос
+     */
+    void record(String endpoint, long nanos, boolean succeeded) {
+        latencies.computeIfAbsent(endpoint, key -> new ConcurrentLinkedQueue<>())
+                .add(nanos);
+        if (!succeeded) {
+            errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Строит отчет по всем точкам входа.
+     *
+     * @param elapsedNanos общее время прогона, нс
+     * @return отчет: точка входа — показатели
+     */
+    Map<String, Map<String, Object>> report(long elapsedNanos) {
+        Map<String, Map<String, Object>> report = new LinkedHashMap<>();
+        latencies.keySet().stream().sorted().forEach(endpoint -> {
+            long[] sorted = latencies.get(endpoint).stream()
+                    .mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("requests", sorted.length);
+            row.put("errors", errors.containsKey(endpoint)
+                    ? errors.get(endpoint).sum() : 0L);
+            row.put("p50Ms", millis(percentile(sorted, 0.50)));
+            row.put("p99Ms", millis(percentile(sorted, 0.99)));
+            row.put("rps", Math.round(sorted.length * 1e9 / elapsedNanos * 10) / 10.0);
+            report.put(endpoint, row);
+        });
+        return report;
+    }
+
+    /**
+     * Возвращает перцентиль отсортированной выборки.
+     *
+     * @param sorted     отсортированная выборка
+     * @param percentile перцентиль от 0 до 1
+     * @return значение перцентиля
+     */
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    /**
+     * Переводит наносекунды в миллисекунды с точностью до сотых.
+     *
+     * @param nanos время, нс
+     * @return время, мс
+     */
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1e4) / 100.0;
+    }
+}
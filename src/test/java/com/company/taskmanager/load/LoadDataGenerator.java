@@ -0,0 +1,152 @@
+package com.company.taskmanager.load;
+
+import com.company.taskmanager.models.task.Priority;
+import com.company.taskmanager.models.task.Status;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Генератор данных для нагрузочного теста по образцу демонстрационных
+ * данных приложения: N пользователей, M задач, K комментариев на задачу
+ * и заданное количество исполнителей на задачу.
+ * <p>
+ * Данные вставляются пакетами через JDBC в пустую схему с идентификаторами
+ * подряд, начиная с 1; после вставки последовательности идентификаторов
+ * переводятся за пределы занятых значений.
+ * Все пользователи имеют email {@code user<i>@mail.com} и пароль
+ * {@link #PASSWORD}.
+ * </p>
+ */
+class LoadDataGenerator {
+
+    /**
+     * Пароль всех сгенерированных пользователей.
+     */
+    static final String PASSWORD = "password";
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Конструктор генератора.
+     *
+     * @param jdbcTemplate шаблон JDBC для вставки данных
+     */
+    LoadDataGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Возвращает email сгенерированного пользователя.
+     *
+     * @param userId идентификатор пользователя
+     * @return email
+     */
+    static String email(long userId) {
+        return "user" + userId + "@mail.com";
+    }
+
+    /**
+     * Заполняет базу данных.
+     *
+     * @param users           количество пользователей
+     * @param tasks           количество задач
+     * @param commentsPerTask количество комментариев на задачу
+     * @param executorsPerTask количество исполнителей на задачу
+     */
+    void generate(int users, int tasks, int commentsPerTask,
+                  int executorsPerTask) {
+        String password = new BCryptPasswordEncoder().encode(PASSWORD);
+        Instant start = Instant.now().minus(tasks, ChronoUnit.MINUTES);
+
+        List<Object[]> rows = new ArrayList<>();
+        for (long i = 1; i <= users; i++) {
+            rows.add(new Object[]{i, email(i), "user" + i, password, "USER", 1});
+        }
+        insert("INSERT INTO users (ID, EMAIL, USERNAME, PASSWORD, ROLE, PRIORITY, "
+                + "CREATED_AT, UPDATED_AT, VERSION) "
+                + "VALUES (?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 1)", rows);
+
+        Priority[] priorities = Priority.values();
+        Status[] statuses = Status.values();
+        for (long i = 1; i <= tasks; i++) {
+            Timestamp createdAt = Timestamp.from(start.plus(i, ChronoUnit.MINUTES));
+            rows.add(new Object[]{i, "Task " + i, "Description of task " + i,
+                    priorities[(int) (i % priorities.length)].name(),
+                    statuses[(int) (i % statuses.length)].name(),
+                    createdAt, createdAt, author(i, users)});
+        }
+        insert("INSERT INTO tasks (ID, TITLE, DESCRIPTION, PRIORITY, STATUS, "
+                + "CREATED_AT, UPDATED_AT, VERSION, AUTHOR_ID) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, 1, ?)", rows);
+
+        int executors = Math.min(executorsPerTask, users);
+        for (long i = 1; i <= tasks; i++) {
+            for (int e = 0; e < executors; e++) {
+                rows.add(new Object[]{i, (author(i, users) + e) % users + 1});
+            }
+        }
+        insert("INSERT INTO task_executors (TASK_ID, USER_ID) VALUES (?, ?)", rows);
+
+        long commentId = 0;
+        for (long i = 1; i <= tasks; i++) {
+            for (int c = 0; c < commentsPerTask; c++) {
+                rows.add(new Object[]{++commentId, "Comment " + c + " on task " + i,
+                        i, (i + c) % users + 1});
+            }
+        }
+        insert("INSERT INTO comments (ID, TEXT, CREATED_AT, UPDATED_AT, VERSION, "
+                + "TASK_ID, USER_ID) "
+                + "VALUES (?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 1, ?, ?)", rows);
+
+        restartSequence("users_seq", users);
+        restartSequence("tasks_seq", tasks);
+        restartSequence("comments_seq", commentId);
+    }
+
+    /**
+     * Переводит последовательность идентификаторов за пределы занятых
+     * значений. Hibernate считает значение последовательности верхней
+     * границей блока из 50 идентификаторов.
+     *
+     * @param sequence имя последовательности
+     * @param maxId    наибольший занятый идентификатор
+     */
+    private void restartSequence(String sequence, long maxId) {
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence
+                + " RESTART WITH " + (maxId + 50));
+    }
+
+    /**
+     * Возвращает автора задачи: задачи распределяются между
+     * пользователями по кругу.
+     *
+     * @param taskId идентификатор задачи
+     * @param users  количество пользователей
+     * @return идентификатор автора
+     */
+    static long author(long taskId, int users) {
+        return (taskId - 1) % users + 1;
+    }
+
+    /**
+     * Вставляет строки пакетами и очищает список.
+     *
+     * @param sql  запрос вставки
+     * @param rows строки
+     */
+    private void insert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql,
+                    rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+        rows.clear();
+    }
+}
@@ -0,0 +1,211 @@
+package com.company.taskmanager.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Нагрузочный тест: поднимает приложение на случайном порту с H2 в режиме
+ * совместимости с PostgreSQL, заполняет базу генератором
+ * {@link LoadDataGenerator} и нагружает {@code /api/auth/login},
+ * {@code /api/task} и {@code /api/comment} в заданной пропорции.
+ * <p>
+ * Запускается отдельно командой {@code gradle loadTest}. Параметры
+ * передаются свойствами {@code -Pload.*}: {@code users}, {@code tasks},
+ * {@code comments}, {@code executors}, {@code requests}, {@code warmup},
+ * {@code concurrency} и {@code mix} (веса в виде
+ * {@code login=1,task=8,comment=1}). Для каждой точки входа выводятся
+ * p50, p99 и количество запросов в секунду; отчет также сохраняется
+ * в {@code build/reports/load/results.json}.
+ * </p>
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"test", "load"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LoadTest {
+    private static final int USERS = Integer.getInteger("load.users", 200);
+    private static final int TASKS = Integer.getInteger("load.tasks", 2000);
+    private static final int COMMENTS = Integer.getInteger("load.comments", 5);
+    private static final int EXECUTORS = Integer.getInteger("load.executors", 3);
+    private static final int REQUESTS = Integer.getInteger("load.requests", 5000);
+    private static final int WARMUP = Integer.getInteger("load.warmup", 500);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 8);
+    private static final String MIX =
+            System.getProperty("load.mix", "login=1,task=8,comment=1");
+    private static final int TOKEN_POOL = 20;
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final List<String> tokens = new ArrayList<>();
+    private final List<String> endpoints = new ArrayList<>();
+
+    @BeforeAll
+    void setUp() throws Exception {
+        new LoadDataGenerator(jdbcTemplate)
+                .generate(USERS, TASKS, COMMENTS, EXECUTORS);
+        for (int i = 1; i <= Math.min(TOKEN_POOL, USERS); i++) {
+            HttpResponse<String> response = login(i);
+            tokens.add(objectMapper.readTree(response.body())
+                    .get("token").asText());
+        }
+        for (String entry : MIX.split(",")) {
+            String[] weight = entry.split("=");
+            for (int i = 0; i < Integer.parseInt(weight[1].trim()); i++) {
+                endpoints.add(weight[0].trim());
+            }
+        }
+    }
+
+    @Test
+    void reportsLatencyAndThroughputPerEndpoint() throws Exception {
+        run(WARMUP, new LatencyRecorder());
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        long elapsed = run(REQUESTS, recorder);
+        Map<String, Map<String, Object>> report = recorder.report(elapsed);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("users", USERS);
+        result.put("tasks", TASKS);
+        result.put("commentsPerTask", COMMENTS);
+        result.put("executorsPerTask", EXECUTORS);
+        result.put("concurrency", CONCURRENCY);
+        result.put("mix", MIX);
+        result.put("endpoints", report);
+        String json = objectMapper.writerWithDefaultPrettyPrinter()
+                .writeValueAsString(result);
+        System.out.println(json);
+        Path reportDir = Path.of(System.getProperty("load.reportDir",
+                "build/reports/load"));
+        Files.createDirectories(reportDir);
+        Files.writeString(reportDir.resolve("results.json"), json);
+
+        report.forEach((endpoint, row) -> assertTrue(
+                (int) row.get("requests") > (long) row.get("errors"),
+                "All requests to " + endpoint + " failed"));
+    }
+
+    /**
+     * Выполняет заданное количество запросов в {@link #CONCURRENCY} потоков.
+     *
+     * @param requests количество запросов
+     * @param recorder накопитель результатов
+     * @return время прогона, нс
+     * @throws InterruptedException если ожидание было прервано
+     */
+    private long run(int requests, LatencyRecorder recorder)
+            throws InterruptedException {
+        AtomicInteger remaining = new AtomicInteger(requests);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        long start = System.nanoTime();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            executor.execute(() -> {
+                while (remaining.getAndDecrement() > 0) {
+                    String endpoint = endpoints.get(ThreadLocalRandom.current()
+                            .nextInt(endpoints.size()));
+                    long begin = System.nanoTime();
+                    boolean succeeded;
+                    try {
+                        succeeded = send(endpoint).statusCode() / 100 == 2;
+                    } catch (IOException | InterruptedException e) {
+                        succeeded = false;
+                    }
+                    recorder.record(endpoint, System.nanoTime() - begin,
+                            succeeded);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.HOURS);
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Отправляет запрос к выбранной точке входа от имени случайного
+     * пользователя.
+     *
+     * @param endpoint точка входа: {@code login}, {@code task} или
+     *                 {@code comment}
+     * @return ответ
+     * @throws IOException          при ошибке ввода/вывода
+     * @throws InterruptedException если запрос был прерван
+     */
+    private HttpResponse<String> send(String endpoint)
+            throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int user = random.nextInt(tokens.size());
+        return switch (endpoint) {
+            case "login" -> login(random.nextInt(USERS) + 1);
+            case "task" -> client.send(authorized(user, "/api/task?size=20")
+                    .GET()
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            case "comment" -> client.send(authorized(user,
+                    "/api/comment/task_id/" + (random.nextInt(TASKS) + 1))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(
+                            "{\"text\":\"Load test comment\"}"))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            default -> throw new IllegalArgumentException(endpoint);
+        };
+    }
+
+    /**
+     * Выполняет вход сгенерированного пользователя.
+     *
+     * @param userId идентификатор пользователя
+     * @return ответ с токеном
+     * @throws IOException          при ошибке ввода/вывода
+     * @throws InterruptedException если запрос был прерван
+     */
+    private HttpResponse<String> login(long userId)
+            throws IOException, InterruptedException {
+        String body = "{\"email\":\"" + LoadDataGenerator.email(userId)
+                + "\",\"password\":\"" + LoadDataGenerator.PASSWORD + "\"}";
+        return client.send(HttpRequest.newBuilder(uri("/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder authorized(int user, String path) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + tokens.get(user));
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
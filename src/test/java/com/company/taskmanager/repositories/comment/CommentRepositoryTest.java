@@ -0,0 +1,80 @@
+package com.company.taskmanager.repositories.comment;
+
+import com.company.taskmanager.config.HibernateCacheConfig;
+import com.company.taskmanager.models.comment.Comment;
+import com.company.taskmanager.models.task.Task;
+import com.company.taskmanager.models.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static com.company.taskmanager.support.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Import(HibernateCacheConfig.class)
+class CommentRepositoryTest {
+    private static final int COMMENTS = 25;
+
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long taskId;
+    private final List<Long> commentIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = entityManager.persist(user("user"));
+        Task task = entityManager.persist(Task.builder()
+                .title("Task").author(user).build());
+        Task other = entityManager.persist(Task.builder()
+                .title("Other").author(user).build());
+        for (int i = 0; i < COMMENTS; i++) {
+            commentIds.add(entityManager.persist(Comment.builder()
+                    .text("Comment " + i).task(task).user(user).build()).getId());
+            entityManager.persist(Comment.builder()
+                    .text("Other " + i).task(other).user(user).build());
+        }
+        taskId = task.getId();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void pageWalksCommentsOfTaskInCreationOrder() {
+        List<Long> seen = new ArrayList<>();
+        Date createdAt = Timestamp.from(Instant.EPOCH);
+        Long id = 0L;
+        List<CommentView> page;
+        do {
+            page = commentRepository.findPageByTaskId(taskId, createdAt, id,
+                    Limit.of(10));
+            page.forEach(view -> {
+                assertEquals(taskId, view.getTaskId());
+                assertEquals("user", view.getUsername());
+                seen.add(view.getId());
+            });
+            if (!page.isEmpty()) {
+                CommentView last = page.get(page.size() - 1);
+                createdAt = last.getCreatedAt();
+                id = last.getId();
+            }
+        } while (page.size() == 10);
+
+        assertEquals(commentIds, seen);
+    }
+}
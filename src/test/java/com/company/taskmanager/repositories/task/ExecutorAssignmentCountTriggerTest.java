@@ -0,0 +1,126 @@
+package com.company.taskmanager.repositories.task;
+
+import com.company.taskmanager.models.task.Status;
+import com.company.taskmanager.models.task.Task;
+import com.company.taskmanager.models.user.User;
+import com.company.taskmanager.repositories.user.UserRepository;
+import com.company.taskmanager.services.task.TaskService;
+import com.company.taskmanager.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static com.company.taskmanager.support.TestTasks.task;
+import static com.company.taskmanager.support.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Проверяет триггеры V4, поддерживающие количество назначений
+ * исполнителей.
+ */
+class ExecutorAssignmentCountTriggerTest extends PostgresIntegrationTest {
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private TaskExecutorRepository taskExecutorRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private User author;
+    private User executor;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        author = userRepository.save(user(uniqueName("author")));
+        executor = userRepository.save(user(uniqueName("executor")));
+    }
+
+    @Test
+    void singleInsertIncrementsCount() {
+        assertCount(executor, 0);
+
+        taskRepository.save(assigned("Single", executor));
+
+        assertCount(executor, 1);
+    }
+
+    @Test
+    void bulkInsertAndDeleteUpdateCountOnce() {
+        List<Long> ids = taskRepository.saveAll(List.of(
+                        task("First", Status.NOT_LAUNCH, author),
+                        task("Second", Status.NOT_LAUNCH, author),
+                        task("Third", Status.NOT_LAUNCH, author)))
+                .stream().map(Task::getId).toList();
+
+        transaction.executeWithoutResult(status ->
+                assertEquals(3, taskRepository.insertExecutor(ids, executor.getId())));
+        assertCount(executor, 3);
+
+        transaction.executeWithoutResult(status -> assertEquals(2,
+                taskRepository.deleteExecutor(ids.subList(0, 2), executor.getId())));
+        assertCount(executor, 1);
+    }
+
+    @Test
+    void taskCascadeDeleteDecrementsCount() {
+        Task first = taskRepository.save(assigned("First", executor));
+        taskRepository.save(assigned("Second", executor));
+        assertCount(executor, 2);
+
+        jdbcTemplate.update("DELETE FROM tasks WHERE id = ?", first.getId());
+
+        assertCount(executor, 1);
+    }
+
+    @Test
+    void userDeleteCascadesToCounts() {
+        User other = userRepository.save(user(uniqueName("other")));
+        taskRepository.save(assigned("Shared", executor, other));
+        taskRepository.save(assigned("Own", other));
+        assertCount(executor, 1);
+        assertCount(other, 2);
+
+        // Удаление автора каскадно удаляет его задачи и их назначения
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", author.getId());
+        assertCount(executor, 0);
+        assertCount(other, 0);
+
+        // Удаление исполнителя удаляет и его строку количества
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", other.getId());
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM executor_assignment_counts WHERE user_id = ?",
+                Long.class, other.getId()));
+    }
+
+    private void assertCount(User user, long expected) {
+        assertEquals(expected, taskExecutorRepository.countByUser(user));
+        assertEquals(expected, taskService.countTasksByExecutor(user));
+        if (expected > 0) {
+            // Количество прочитано из таблицы, а не подсчитано заново
+            assertTrue(taskExecutorRepository.findAssignedCount(user.getId())
+                    .isPresent());
+        }
+    }
+
+    private Task assigned(String title, User... executors) {
+        Task task = task(title, Status.NOT_LAUNCH, author);
+        for (User user : executors) {
+            task.addExecutor(user);
+        }
+        return task;
+    }
+}
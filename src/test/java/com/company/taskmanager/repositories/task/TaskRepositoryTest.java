@@ -0,0 +1,270 @@
+package com.company.taskmanager.repositories.task;
+
+import com.company.taskmanager.config.HibernateCacheConfig;
+import com.company.taskmanager.models.comment.Comment;
+import com.company.taskmanager.models.task.Priority;
+import com.company.taskmanager.models.task.Status;
+import com.company.taskmanager.models.task.Task;
+import com.company.taskmanager.models.user.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static com.company.taskmanager.support.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Import(HibernateCacheConfig.class)
+class TaskRepositoryTest {
+    private static final int TASKS = 30;
+
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private TaskExecutorRepository taskExecutorRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User author;
+    private User executor;
+
+    @BeforeEach
+    void setUp() {
+        author = entityManager.persist(user("author"));
+        executor = entityManager.persist(user("executor"));
+        User other = entityManager.persist(user("other"));
+        for (int i = 0; i < TASKS; i++) {
+            Task task = Task.builder()
+                    .title("Task " + i)
+                    .status(Status.values()[i % Status.values().length])
+                    .priority(Priority.MEDIUM)
+                    .author(author)
+                    .build();
+            task.addExecutor(executor);
+            task.addExecutor(other);
+            for (int c = 0; c < 3; c++) {
+                task.addComment(Comment.builder()
+                        .text("Comment " + c)
+                        .task(task)
+                        .user(c % 2 == 0 ? executor : other)
+                        .build());
+            }
+            entityManager.persist(task);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void statementCountPerPageDoesNotDependOnPageSize() {
+        long small = statementsFor(PageRequest.of(0, 5));
+        long large = statementsFor(PageRequest.of(0, 25));
+
+        assertEquals(small, large);
+        assertTrue(large <= 4, "Expected at most 4 statements, got " + large);
+    }
+
+    @Test
+    void executorPageKeepsOrderAndMetadata() {
+        Page<Task> page = taskRepository.findPageByExecutor(executor,
+                PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "id")));
+
+        assertEquals(TASKS, page.getTotalElements());
+        assertEquals(10, page.getContent().size());
+        List<Long> ids = page.map(Task::getId).getContent();
+        List<Long> sorted = new ArrayList<>(ids);
+        sorted.sort((a, b) -> Long.compare(b, a));
+        assertEquals(sorted, ids);
+    }
+
+    @Test
+    void listViewsAggregateExecutorsInSingleStatement() {
+        Statistics statistics = entityManagerFactory
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<TaskListView> page = taskRepository.findViewsByExecutor(executor,
+                PageRequest.of(0, 10, Sort.by("id")));
+
+        assertEquals(TASKS, page.getTotalElements());
+        TaskListView view = page.getContent().get(0);
+        assertEquals("author", view.getAuthor());
+        assertEquals(Set.of("executor", "other"), Set.of(view.getExecutors()
+                .split(TaskListView.EXECUTOR_SEPARATOR)));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void feedWalksAllTasksByKeyset() {
+        List<Long> seen = new ArrayList<>();
+        Date createdAt = Timestamp.from(Instant.parse("9999-12-31T23:59:59Z"));
+        Long id = Long.MAX_VALUE;
+        List<TaskListView> page;
+        do {
+            page = taskRepository.findFeedByExecutorOrderByCreated(
+                    executor, createdAt, id, Limit.of(7));
+            page.forEach(view -> seen.add(view.getId()));
+            if (!page.isEmpty()) {
+                TaskListView last = page.get(page.size() - 1);
+                createdAt = last.getCreatedAt();
+                id = last.getId();
+            }
+        } while (page.size() == 7);
+
+        assertEquals(TASKS, seen.size());
+        assertEquals(TASKS, Set.copyOf(seen).size());
+    }
+
+    @Test
+    void filterCombinesConditionsAndKeepsSortOrder() {
+        Page<TaskListView> page = taskRepository.findViewPage(
+                TaskSpecifications.hasExecutor(executor)
+                        .and(TaskSpecifications.hasStatus(Status.DONE))
+                        .and(TaskSpecifications.hasPriority(Priority.MEDIUM)),
+                PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "id")));
+
+        long expected = TASKS / Status.values().length;
+        assertEquals(expected, page.getTotalElements());
+        List<Long> ids = page.map(TaskListView::getId).getContent();
+        List<Long> sorted = new ArrayList<>(ids);
+        sorted.sort((a, b) -> Long.compare(b, a));
+        assertEquals(sorted, ids);
+        page.forEach(view -> assertEquals(Status.DONE, view.getStatus()));
+    }
+
+    @Test
+    void streamReadsTasksInIdOrderWithCollections() {
+        List<Long> ids = new ArrayList<>();
+        try (Stream<Task> tasks = taskRepository.streamByExecutor(executor)) {
+            tasks.forEach(task -> {
+                assertEquals(2, task.getExecutors().size());
+                assertEquals(3, task.getComments().size());
+                ids.add(task.getId());
+                entityManager.detach(task);
+            });
+        }
+
+        assertEquals(TASKS, ids.size());
+        List<Long> sorted = new ArrayList<>(ids);
+        sorted.sort(Long::compare);
+        assertEquals(sorted, ids);
+    }
+
+    @Test
+    void bulkStatusUpdateChecksExecutorAndVersion() {
+        List<Long> ids = taskRepository.findIdsByAuthor(author,
+                PageRequest.of(0, TASKS)).getContent();
+        List<TaskVersionView> views = taskRepository
+                .findVersionsForStatus(ids, executor, Status.DONE);
+
+        assertEquals(TASKS, views.size());
+        assertEquals(TASKS - TASKS / Status.values().length,
+                views.stream().filter(TaskVersionView::getChanged).count());
+        assertTrue(taskRepository
+                .findVersionsForStatus(ids, author, Status.DONE).isEmpty());
+
+        Long version = views.get(0).getVersion();
+        assertEquals(0, taskRepository.updateStatus(ids, version + 1,
+                Status.DONE, new Date()));
+        assertEquals(TASKS, taskRepository.updateStatus(ids, version,
+                Status.DONE, new Date()));
+        taskRepository.findAllById(ids).forEach(task -> {
+            assertEquals(Status.DONE, task.getStatus());
+            assertEquals(version + 1, task.getVersion());
+        });
+    }
+
+    @Test
+    void bulkExecutorChangesUpdateJoinTable() {
+        User newcomer = entityManager.persist(user("newcomer"));
+        List<Long> ids = taskRepository.findIdsByAuthor(author,
+                PageRequest.of(0, TASKS)).getContent();
+
+        assertTrue(taskRepository.findVersionsForExecutorAdd(ids, author, newcomer)
+                .stream().allMatch(TaskVersionView::getChanged));
+        assertTrue(taskRepository.findVersionsForExecutorAdd(ids, executor, newcomer)
+                .isEmpty());
+        assertEquals(TASKS, taskRepository.insertExecutor(ids, newcomer.getId()));
+        assertEquals(TASKS, taskRepository.findPageByExecutor(newcomer,
+                PageRequest.of(0, 1)).getTotalElements());
+
+        assertTrue(taskRepository.findVersionsForExecutorRemove(ids, author, newcomer)
+                .stream().allMatch(TaskVersionView::getChanged));
+        assertEquals(TASKS, taskRepository.deleteExecutor(ids, newcomer.getId()));
+        assertTrue(taskRepository.findVersionsForExecutorAdd(ids, author, newcomer)
+                .stream().allMatch(TaskVersionView::getChanged));
+    }
+
+    @Test
+    void executorCountReadsAssignmentsOnly() {
+        assertEquals(TASKS, taskExecutorRepository.countByUser(executor));
+        assertEquals(0, taskExecutorRepository.countByUser(author));
+        assertTrue(taskExecutorRepository.findAssignedCount(executor.getId())
+                .isEmpty());
+        assertEquals(TASKS, taskRepository.findViewsByExecutor(executor,
+                PageRequest.of(1, 5)).getTotalElements());
+        assertEquals(5, taskRepository.findViewListByExecutor(executor,
+                PageRequest.of(1, 5, Sort.by("id"))).size());
+    }
+
+    @Test
+    void countsAggregateByStatusAndPriority() {
+        long perStatus = TASKS / Status.values().length;
+
+        List<TaskCountView> authored = taskRepository
+                .countByAuthorGroupByStatusAndPriority(author);
+        List<TaskCountView> assigned = taskRepository
+                .countByExecutorGroupByStatusAndPriority(executor);
+
+        assertEquals(Status.values().length, authored.size());
+        authored.forEach(count -> {
+            assertEquals(Priority.MEDIUM, count.getPriority());
+            assertEquals(perStatus, count.getCount());
+        });
+        assertEquals(Status.values().length, assigned.size());
+        assigned.forEach(count -> assertEquals(perStatus, count.getCount()));
+        assertTrue(taskRepository.countByExecutorGroupByStatusAndPriority(author)
+                .isEmpty());
+    }
+
+    private long statementsFor(PageRequest pageRequest) {
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<Task> page = taskRepository.findPageByAuthor(author, pageRequest);
+        for (Task task : page) {
+            task.getAuthor().getUsername();
+            task.getExecutors().forEach(User::getUsername);
+            task.getComments().forEach(c -> c.getUser().getUsername());
+        }
+
+        assertEquals(TASKS, page.getTotalElements());
+        assertEquals(pageRequest.getPageSize(), page.getContent().size());
+        return statistics.getPrepareStatementCount();
+    }
+}
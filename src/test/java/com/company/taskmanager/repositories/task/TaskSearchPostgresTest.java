@@ -0,0 +1,142 @@
+package com.company.taskmanager.repositories.task;
+
+import com.company.taskmanager.models.task.Status;
+import com.company.taskmanager.models.task.Task;
+import com.company.taskmanager.models.user.User;
+import com.company.taskmanager.repositories.user.UserRepository;
+import com.company.taskmanager.requests.TaskSearchRequest;
+import com.company.taskmanager.services.comment.CommentService;
+import com.company.taskmanager.services.task.TaskSearchCursor;
+import com.company.taskmanager.services.task.TaskService;
+import com.company.taskmanager.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.company.taskmanager.support.TestTasks.task;
+import static com.company.taskmanager.support.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Проверяет полнотекстовый поиск по столбцам и индексам V7
+ * ({@link TaskRepository#search}).
+ */
+class TaskSearchPostgresTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User author;
+    private String first;
+    private String second;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(user(uniqueName("searcher")));
+        // Слова уникальны в общей базе и не являются префиксами друг друга
+        first = uniqueName("alpha") + "x";
+        second = uniqueName("beta") + "x";
+    }
+
+    @Test
+    void wordsAreFoundByPrefixInAnyField() {
+        Task title = save(first + " report", null, Status.DONE);
+        Task description = save("Other", "Draft of the " + first + "ing", Status.NOT_LAUNCH);
+        Task commented = save("Plain", null, Status.NOT_LAUNCH);
+        commentService.addComment(commented.getId(), author, "see " + first);
+        save("Unrelated", null, Status.DONE);
+
+        List<TaskSearchView> found = search(first, null);
+
+        assertEquals(List.of(title.getId(), description.getId(), commented.getId()),
+                ids(found));
+        assertTrue(found.get(0).getSnippet().contains("<b>" + first + "</b>"));
+        assertTrue(found.get(2).getCommentSnippet().contains("<b>" + first + "</b>"));
+        assertEquals(List.of(title.getId()), ids(search(first, Status.DONE)));
+    }
+
+    @Test
+    void wordsMayBeSplitBetweenTaskAndComments() {
+        Task split = save(first, null, Status.NOT_LAUNCH);
+        commentService.addComment(split.getId(), author, second);
+        Task comments = save("Plain", null, Status.NOT_LAUNCH);
+        commentService.addComment(comments.getId(), author, first);
+        commentService.addComment(comments.getId(), author, second);
+        save(first + " only", null, Status.NOT_LAUNCH);
+
+        assertEquals(List.of(split.getId(), comments.getId()),
+                ids(search(first + " " + second, null)).stream().sorted().toList());
+    }
+
+    @Test
+    void vectorsFollowUpdatesAndDeletes() {
+        Task task = save("Old title", null, Status.NOT_LAUNCH);
+        jdbcTemplate.update("UPDATE tasks SET title = ? WHERE id = ?",
+                first + " renamed", task.getId());
+        assertEquals(List.of(task.getId()), ids(search(first, null)));
+
+        Long comment = commentService.addComment(
+                task.getId(), author, second).getId();
+        assertEquals(List.of(task.getId()), ids(search(second, null)));
+        commentService.deleteComment(comment);
+        assertEquals(List.of(), ids(search(second, null)));
+    }
+
+    @Test
+    void pagesFollowCursorWithoutGapsOrRepeats() {
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expected.add(0, save(first + " " + i, null, Status.DONE).getId());
+        }
+
+        List<Long> seen = new ArrayList<>();
+        TaskSearchCursor cursor = TaskSearchCursor.first();
+        List<TaskSearchView> page;
+        do {
+            page = taskService.searchTasks(request(first, null), cursor, 2);
+            seen.addAll(ids(page));
+            if (!page.isEmpty()) {
+                TaskSearchView last = page.get(page.size() - 1);
+                cursor = new TaskSearchCursor(last.getRank(), last.getId());
+            }
+        } while (!page.isEmpty());
+
+        // Релевантность одинакова, поэтому порядок определяет идентификатор
+        assertEquals(expected, seen);
+    }
+
+    private Task save(String title, String description, Status status) {
+        Task task = task(title, status, author);
+        task.setDescription(description);
+        return taskRepository.save(task);
+    }
+
+    private List<TaskSearchView> search(String q, Status status) {
+        return taskService.searchTasks(request(q, status),
+                TaskSearchCursor.first(), 20);
+    }
+
+    private static TaskSearchRequest request(String q, Status status) {
+        TaskSearchRequest request = new TaskSearchRequest();
+        request.setQ(q);
+        request.setStatus(status);
+        return request;
+    }
+
+    private static List<Long> ids(List<TaskSearchView> views) {
+        return views.stream().map(TaskSearchView::getId).toList();
+    }
+}
@@ -0,0 +1,159 @@
+package com.company.taskmanager.repositories.task;
+
+import com.company.taskmanager.dtos.TaskStatsDto;
+import com.company.taskmanager.models.task.Priority;
+import com.company.taskmanager.models.task.Status;
+import com.company.taskmanager.models.task.Task;
+import com.company.taskmanager.models.user.User;
+import com.company.taskmanager.repositories.user.UserRepository;
+import com.company.taskmanager.services.task.TaskService;
+import com.company.taskmanager.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static com.company.taskmanager.support.TestTasks.task;
+import static com.company.taskmanager.support.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Проверяет триггеры V6 и V8, поддерживающие статистику задач
+ * пользователей, в том числе для задач без статуса или приоритета.
+ */
+class UserTaskStatsTriggerTest extends PostgresIntegrationTest {
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private User author;
+    private User executor;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        author = userRepository.save(user(uniqueName("author")));
+        executor = userRepository.save(user(uniqueName("executor")));
+    }
+
+    @Test
+    void insertCountsTasksWithoutStatusOrPriority() {
+        taskRepository.save(bucketTask("Sorted", Status.DONE, Priority.HIGH, executor));
+        taskRepository.save(bucketTask("Unsorted", null, null, executor));
+
+        TaskStatsDto authored = taskService.getTaskStats(author);
+        assertEquals(2, maintained(author, "AUTHOR"));
+        assertEquals(2, authored.getAuthored());
+        assertEquals(1, authored.getAuthoredByStatus().get(Status.DONE));
+        assertEquals(1, authored.getAuthoredByPriority().get(Priority.HIGH));
+        assertEquals(2, maintained(executor, "EXECUTOR"));
+        assertEquals(2, taskService.getTaskStats(executor).getAssigned());
+    }
+
+    @Test
+    void updateMovesTasksBetweenBuckets() {
+        Task task = taskRepository.save(bucketTask("Moving", null, Priority.LOW, executor));
+
+        jdbcTemplate.update("UPDATE tasks SET status = 'IN_PROCESS' WHERE id = ?",
+                task.getId());
+        TaskStatsDto stats = taskService.getTaskStats(executor);
+        assertEquals(1, stats.getAssigned());
+        assertEquals(1, stats.getAssignedByStatus().get(Status.IN_PROCESS));
+
+        jdbcTemplate.update("UPDATE tasks SET status = NULL, priority = NULL "
+                + "WHERE id = ?", task.getId());
+        stats = taskService.getTaskStats(author);
+        assertEquals(1, stats.getAuthored());
+        assertEquals(0, stats.getAuthoredByStatus().get(Status.IN_PROCESS));
+        assertEquals(0, stats.getAuthoredByPriority().get(Priority.LOW));
+        assertEquals(1, maintained(executor, "EXECUTOR"));
+    }
+
+    @Test
+    void executorAddAndRemoveUpdateAssignedCounts() {
+        List<Long> ids = taskRepository.saveAll(List.of(
+                        bucketTask("First", Status.NOT_LAUNCH, Priority.MEDIUM),
+                        bucketTask("Second", null, Priority.MEDIUM),
+                        bucketTask("Third", null, null)))
+                .stream().map(Task::getId).toList();
+
+        transaction.executeWithoutResult(status ->
+                taskRepository.insertExecutor(ids, executor.getId()));
+        assertEquals(3, maintained(executor, "EXECUTOR"));
+        assertEquals(3, taskService.getTaskStats(executor).getAssigned());
+
+        transaction.executeWithoutResult(status ->
+                taskRepository.deleteExecutor(ids.subList(1, 3), executor.getId()));
+        TaskStatsDto stats = taskService.getTaskStats(executor);
+        assertEquals(1, maintained(executor, "EXECUTOR"));
+        assertEquals(1, stats.getAssigned());
+        assertEquals(1, stats.getAssignedByStatus().get(Status.NOT_LAUNCH));
+    }
+
+    @Test
+    void cascadeDeleteSubtractsTaskAndAssignments() {
+        Task kept = taskRepository.save(bucketTask("Kept", Status.DONE, Priority.LOW, executor));
+        Task removed = taskRepository.save(bucketTask("Removed", null, null, executor));
+
+        jdbcTemplate.update("DELETE FROM tasks WHERE id = ?", removed.getId());
+        assertEquals(1, maintained(author, "AUTHOR"));
+        assertEquals(1, maintained(executor, "EXECUTOR"));
+
+        // Удаление автора каскадно удаляет его задачи и их назначения
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", author.getId());
+        assertEquals(0, maintained(executor, "EXECUTOR"));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tasks WHERE id = ?", Long.class, kept.getId()));
+    }
+
+    @Test
+    void rebuildMatchesMaintainedCounts() {
+        taskRepository.save(bucketTask("Sorted", Status.DONE, Priority.HIGH, executor));
+        taskRepository.save(bucketTask("Unsorted", null, null, executor));
+        taskRepository.save(bucketTask("Partial", Status.IN_PROCESS, null));
+        List<?> maintained = statRows(author, executor);
+
+        jdbcTemplate.update("UPDATE user_task_stats SET task_count = 0 "
+                + "WHERE user_id = ?", author.getId());
+        taskService.rebuildTaskStats();
+
+        assertEquals(maintained, statRows(author, executor));
+        assertEquals(3, taskService.getTaskStats(author).getAuthored());
+    }
+
+    private long maintained(User user, String role) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(task_count), 0) "
+                        + "FROM user_task_stats WHERE user_id = ? AND role_in_task = ?",
+                Long.class, user.getId(), role);
+    }
+
+    private List<?> statRows(User... users) {
+        return jdbcTemplate.queryForList("SELECT user_id, role_in_task, status, "
+                        + "priority, task_count FROM user_task_stats "
+                        + "WHERE user_id IN (?, ?) AND task_count > 0 "
+                        + "ORDER BY user_id, role_in_task, status, priority",
+                users[0].getId(), users[1].getId());
+    }
+
+    private Task bucketTask(String title, Status status, Priority priority,
+                            User... executors) {
+        Task task = task(title, status, author);
+        task.setPriority(priority);
+        for (User user : executors) {
+            task.addExecutor(user);
+        }
+        return task;
+    }
+}
@@ -0,0 +1,249 @@
+package com.company.taskmanager.services.cache;
+
+import com.company.taskmanager.config.HibernateCacheConfig;
+import com.company.taskmanager.config.UserCacheConfig;
+import com.company.taskmanager.dtos.CacheRegionStatsDto;
+import com.company.taskmanager.dtos.CacheStatsDto;
+import com.company.taskmanager.models.comment.Comment;
+import com.company.taskmanager.models.task.Status;
+import com.company.taskmanager.models.task.Task;
+import com.company.taskmanager.models.user.User;
+import com.company.taskmanager.repositories.comment.CommentRepository;
+import com.company.taskmanager.repositories.task.TaskRepository;
+import com.company.taskmanager.repositories.user.UserRepository;
+import com.company.taskmanager.services.comment.CommentService;
+import com.company.taskmanager.services.task.TaskService;
+import com.company.taskmanager.services.task.TaskServiceImpl;
+import com.company.taskmanager.services.task.search.DatabaseTaskSearchIndex;
+import com.company.taskmanager.services.user.UserService;
+import com.company.taskmanager.utils.CommentMapperImpl;
+import com.company.taskmanager.utils.TaskMapperImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Date;
+import java.util.List;
+
+import static com.company.taskmanager.support.TestTasks.task;
+import static com.company.taskmanager.support.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Import({EntityCacheServiceImpl.class, HibernateCacheConfig.class,
+        UserCacheConfig.class, TaskServiceImpl.class, DatabaseTaskSearchIndex.class,
+        TaskMapperImpl.class, CommentMapperImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EntityCacheServiceImplTest {
+
+    @Autowired
+    private EntityCacheService entityCacheService;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private UserService userService;
+    @MockBean
+    private CommentService commentService;
+
+    private Statistics statistics;
+    private TransactionTemplate transaction;
+    private User author;
+    private User executor;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+        transaction = new TransactionTemplate(transactionManager);
+        author = userRepository.save(user("author"));
+        executor = userRepository.save(user("executor"));
+        task = taskRepository.save(task("Cached task", Status.NOT_LAUNCH, author));
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAll();
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void taskIsReadFromCacheUntilVersionBump() {
+        Task cached = taskRepository.findById(task.getId()).orElseThrow();
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(task.getVersion(), cached.getVersion());
+        assertEquals("author", cached.getAuthor().getUsername());
+
+        transaction.executeWithoutResult(status -> taskRepository.incrementVersion(
+                List.of(task.getId()), task.getVersion(), new Date()));
+        statistics.clear();
+        Task reloaded = taskRepository.findById(task.getId()).orElseThrow();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(task.getVersion() + 1, reloaded.getVersion());
+    }
+
+    @Test
+    void executorChangeEvictsOnlyExecutorCollections() {
+        assertEquals(0, executorsOf(task.getId()).size());
+
+        transaction.executeWithoutResult(status -> {
+            taskRepository.insertExecutor(List.of(task.getId()), executor.getId());
+            entityCacheService.evictExecutors(List.of(task.getId()));
+        });
+        statistics.clear();
+
+        assertEquals(List.of("executor"), executorsOf(task.getId()));
+        assertEquals(1, statistics.getDomainDataRegionStatistics("task")
+                .getHitCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("task.executors")
+                .getMissCount());
+        assertEquals(2, region(entityCacheService.getStats(), "user").getSize());
+    }
+
+    @Test
+    void statusChangeEvictsOnlyChangedTask() {
+        Task other = taskRepository.save(task("Other task", Status.NOT_LAUNCH, author));
+        transaction.executeWithoutResult(status -> taskRepository.insertExecutor(
+                List.of(task.getId()), executor.getId()));
+        entityCacheService.evictExecutors(List.of(task.getId()));
+
+        taskService.updateStatus(executor, task.getId(), Status.DONE, null);
+        statistics.clear();
+
+        assertEquals(Status.DONE, taskRepository.findById(task.getId())
+                .orElseThrow().getStatus());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(Status.NOT_LAUNCH, taskRepository.findById(other.getId())
+                .orElseThrow().getStatus());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void directlyInsertedCommentEvictsCommentCollection() {
+        assertEquals(0, commentCount(task.getId()));
+
+        commentRepository.save(Comment.builder()
+                .text("First")
+                .task(task)
+                .user(executor)
+                .build());
+
+        assertEquals(1, commentCount(task.getId()));
+    }
+
+    @Test
+    void statusPageIsCachedUntilTasksChange() {
+        taskRepository.save(task("Second task", Status.NOT_LAUNCH, author));
+        taskRepository.save(task("Third task", Status.NOT_LAUNCH, author));
+        PageRequest pageable = PageRequest.of(0, 2);
+
+        taskRepository.findIdsByStatus(Status.NOT_LAUNCH, pageable);
+        statistics.clear();
+        Page<Long> cached = taskRepository.findIdsByStatus(Status.NOT_LAUNCH, pageable);
+
+        assertEquals(3, cached.getTotalElements());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getQueryCacheHitCount());
+
+        taskRepository.save(task("Fourth task", Status.NOT_LAUNCH, author));
+        statistics.clear();
+
+        assertEquals(4, taskRepository.findIdsByStatus(Status.NOT_LAUNCH, pageable)
+                .getTotalElements());
+        assertEquals(0, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void statsReportRegionsAndEvictionClearsTasks() {
+        taskRepository.findById(task.getId());
+
+        CacheStatsDto stats = entityCacheService.getStats();
+        CacheRegionStatsDto tasks = region(stats, "task");
+        assertEquals(1, tasks.getHitCount());
+        assertEquals(1.0, tasks.getHitRate());
+        assertEquals(1, tasks.getSize());
+        assertNull(region(stats, "comment").getHitRate());
+        assertNull(stats.getUsers().getHitRate());
+        assertEquals(2, region(stats, "user").getSize());
+        assertTrue(stats.getRegions().stream()
+                .anyMatch(r -> r.getRegion().equals("task.comments")));
+
+        entityCacheService.evictUserData();
+
+        assertEquals(0, region(entityCacheService.getStats(), "task").getSize());
+        assertEquals(2, region(entityCacheService.getStats(), "user").getSize());
+    }
+
+    @Test
+    void statsWithoutHibernateStatisticsReportSizesOnly() {
+        taskRepository.findById(task.getId());
+        statistics.setStatisticsEnabled(false);
+        try {
+            CacheStatsDto stats = entityCacheService.getStats();
+
+            CacheRegionStatsDto tasks = region(stats, "task");
+            assertEquals(1, tasks.getSize());
+            assertNull(tasks.getHitCount());
+            assertNull(tasks.getHitRate());
+            assertEquals(2, region(stats, "user").getSize());
+            assertNull(stats.getQueries().getMissCount());
+        } finally {
+            statistics.setStatisticsEnabled(true);
+        }
+    }
+
+    private List<String> executorsOf(Long id) {
+        return transaction.execute(status -> entityManager.find(Task.class, id)
+                .getExecutors().stream()
+                .map(User::getUsername)
+                .toList());
+    }
+
+    private int commentCount(Long id) {
+        return transaction.execute(status -> entityManager.find(Task.class, id)
+                .getComments().size());
+    }
+
+    private static CacheRegionStatsDto region(CacheStatsDto stats, String name) {
+        return stats.getRegions().stream()
+                .filter(region -> region.getRegion().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,110 @@
+package com.company.taskmanager.services.comment;
+
+import com.company.taskmanager.config.HibernateCacheConfig;
+import com.company.taskmanager.exceptions.BadRequestException;
+import com.company.taskmanager.exceptions.ResourceNotFoundException;
+import com.company.taskmanager.models.comment.Comment;
+import com.company.taskmanager.models.task.Status;
+import com.company.taskmanager.models.task.Task;
+import com.company.taskmanager.models.user.User;
+import com.company.taskmanager.services.task.search.DatabaseTaskSearchIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.company.taskmanager.support.TestTasks.task;
+import static com.company.taskmanager.support.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Import({CommentServiceImpl.class, DatabaseTaskSearchIndex.class,
+        HibernateCacheConfig.class})
+class CommentServiceImplTest {
+    private static final int COMMENTS = 200;
+
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User author;
+    private Long emptyTaskId;
+    private Long busyTaskId;
+
+    @BeforeEach
+    void setUp() {
+        author = entityManager.persist(user("author"));
+        emptyTaskId = entityManager.persist(task("Empty", Status.NOT_LAUNCH, author)).getId();
+        Task busy = task("Busy", Status.NOT_LAUNCH, author);
+        for (int c = 0; c < COMMENTS; c++) {
+            busy.addComment(Comment.builder()
+                    .text("Comment " + c)
+                    .task(busy)
+                    .user(author)
+                    .build());
+        }
+        busyTaskId = entityManager.persist(busy).getId();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void appendInsertsSingleRowWithoutLoadingTask() {
+        long empty = statementsFor(emptyTaskId);
+        long busy = statementsFor(busyTaskId);
+
+        // Вставка и, при исчерпании блока идентификаторов, чтение последовательности.
+        assertTrue(empty <= 2, "Expected at most 2 statements, got " + empty);
+        assertTrue(busy <= 2, "Expected at most 2 statements, got " + busy);
+        assertEquals(COMMENTS + 1, entityManager.getEntityManager()
+                .createQuery("select count(c) from Comment c where c.task.id = ?1",
+                        Long.class)
+                .setParameter(1, busyTaskId)
+                .getSingleResult());
+    }
+
+    @Test
+    void appendValidatesTextBeforeInsert() {
+        assertThrows(BadRequestException.class,
+                () -> commentService.addComment(emptyTaskId, author, " "));
+        assertThrows(BadRequestException.class,
+                () -> commentService.addComment(emptyTaskId, author,
+                        "x".repeat(Comment.MAX_TEXT_LENGTH + 1)));
+    }
+
+    @Test
+    void pageOfMissingTaskFailsWithNotFound() {
+        assertEquals(0, commentService.getCommentPage(emptyTaskId,
+                CommentCursor.first(), 10).size());
+        assertThrows(ResourceNotFoundException.class,
+                () -> commentService.getCommentPage(Long.MAX_VALUE,
+                        CommentCursor.first(), 10));
+    }
+
+    private long statementsFor(Long taskId) {
+        Statistics statistics = entityManagerFactory
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Comment comment = commentService.addComment(taskId, author, "Text");
+
+        assertNotNull(comment.getId());
+        assertEquals(0, statistics.getEntityLoadCount());
+        long statements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        return statements;
+    }
+}
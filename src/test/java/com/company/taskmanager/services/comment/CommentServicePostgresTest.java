@@ -0,0 +1,59 @@
+package com.company.taskmanager.services.comment;
+
+import com.company.taskmanager.exceptions.ResourceNotFoundException;
+import com.company.taskmanager.models.task.Task;
+import com.company.taskmanager.models.user.User;
+import com.company.taskmanager.repositories.task.TaskRepository;
+import com.company.taskmanager.repositories.user.UserRepository;
+import com.company.taskmanager.support.PostgresIntegrationTest;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static com.company.taskmanager.support.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Проверяет разбор нарушений внешних ключей при добавлении комментария.
+ * Имя нарушенного ограничения извлекается диалектом, поэтому проверка
+ * выполняется на PostgreSQL, а не на H2.
+ */
+class CommentServicePostgresTest extends PostgresIntegrationTest {
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User author;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(user(uniqueName("commenter")));
+        task = taskRepository.save(Task.builder()
+                .title("Commented")
+                .author(author)
+                .build());
+    }
+
+    @Test
+    void appendToMissingTaskFailsWithNotFound() {
+        assertThrows(ResourceNotFoundException.class,
+                () -> commentService.addComment(Long.MAX_VALUE, author, "Lost"));
+    }
+
+    @Test
+    void appendByMissingUserIsNotReportedAsMissingTask() {
+        User missing = user("missing");
+        missing.setId(Long.MAX_VALUE);
+
+        ConstraintViolationException e = assertThrows(
+                ConstraintViolationException.class,
+                () -> commentService.addComment(task.getId(), missing, "Lost"));
+        assertEquals("fk_comments_user", e.getConstraintName());
+    }
+}
@@ -0,0 +1,102 @@
+package com.company.taskmanager.services.jwt;
+
+import com.company.taskmanager.repositories.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationServiceTest {
+    private static final Long USER_ID = 1L;
+
+    private UserRepository userRepository;
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        tokenRevocationService = new TokenRevocationService(userRepository,
+                Duration.ofMinutes(1), 100);
+        when(userRepository.findVersionById(USER_ID)).thenReturn(Optional.of(1L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void revokeOutsideTransactionDropsVersionImmediately() {
+        assertTrue(tokenRevocationService.isActive(claims(1L)));
+
+        when(userRepository.findVersionById(USER_ID)).thenReturn(Optional.of(2L));
+        tokenRevocationService.revoke(USER_ID);
+
+        assertFalse(tokenRevocationService.isActive(claims(1L)));
+        assertTrue(tokenRevocationService.isActive(claims(2L)));
+    }
+
+    @Test
+    void revokeInsideTransactionWaitsForCommit() {
+        assertTrue(tokenRevocationService.isActive(claims(1L)));
+        TransactionSynchronizationManager.initSynchronization();
+
+        tokenRevocationService.revoke(USER_ID);
+        // Версия в базе данных изменится только при фиксации
+        assertTrue(tokenRevocationService.isActive(claims(1L)));
+
+        when(userRepository.findVersionById(USER_ID)).thenReturn(Optional.of(2L));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+
+        assertFalse(tokenRevocationService.isActive(claims(1L)));
+    }
+
+    @Test
+    void revokeDuringLoadDiscardsLoadedVersion() throws Exception {
+        AtomicLong version = new AtomicLong(1L);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userRepository.findVersionById(USER_ID)).thenAnswer(invocation -> {
+            long loaded = version.get();
+            loading.countDown();
+            release.await();
+            return Optional.of(loaded);
+        });
+        CompletableFuture<Boolean> check = CompletableFuture.supplyAsync(
+                () -> tokenRevocationService.isActive(claims(1L)));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // Версия меняется, пока загрузка прежней версии не завершена
+        version.set(2L);
+        tokenRevocationService.revoke(USER_ID);
+        release.countDown();
+
+        assertTrue(check.get(5, TimeUnit.SECONDS));
+        assertFalse(tokenRevocationService.isActive(claims(1L)));
+        assertTrue(tokenRevocationService.isActive(claims(2L)));
+    }
+
+    private static VerifiedClaims claims(Long version) {
+        return VerifiedClaims.builder()
+                .subject("user")
+                .userId(USER_ID)
+                .version(version)
+                .build();
+    }
+}
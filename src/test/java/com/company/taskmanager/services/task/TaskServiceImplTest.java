@@ -0,0 +1,258 @@
+package com.company.taskmanager.services.task;
+
+import com.company.taskmanager.config.HibernateCacheConfig;
+import com.company.taskmanager.config.UserCacheConfig;
+import com.company.taskmanager.dtos.TaskDto;
+import com.company.taskmanager.dtos.TaskStatsDto;
+import com.company.taskmanager.exceptions.BadRequestException;
+import com.company.taskmanager.exceptions.ConflictException;
+import com.company.taskmanager.exceptions.NotSupportedException;
+import com.company.taskmanager.exceptions.ResourceNotFoundException;
+import com.company.taskmanager.models.comment.Comment;
+import com.company.taskmanager.models.task.Priority;
+import com.company.taskmanager.models.task.Status;
+import com.company.taskmanager.models.task.Task;
+import com.company.taskmanager.models.user.User;
+import com.company.taskmanager.requests.TaskSearchRequest;
+import com.company.taskmanager.services.cache.EntityCacheServiceImpl;
+import com.company.taskmanager.services.comment.CommentService;
+import com.company.taskmanager.services.task.search.DatabaseTaskSearchIndex;
+import com.company.taskmanager.services.task.search.TaskSearchIndex;
+import com.company.taskmanager.services.user.UserService;
+import com.company.taskmanager.utils.CommentMapperImpl;
+import com.company.taskmanager.utils.TaskMapperImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Set;
+
+import static com.company.taskmanager.support.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doAnswer;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Import({TaskServiceImpl.class, DatabaseTaskSearchIndex.class,
+        TaskMapperImpl.class, CommentMapperImpl.class, HibernateCacheConfig.class,
+        EntityCacheServiceImpl.class, UserCacheConfig.class})
+class TaskServiceImplTest {
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private UserService userService;
+    @MockBean
+    private CommentService commentService;
+    @SpyBean
+    private TaskSearchIndex taskSearchIndex;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User author;
+    private User executor;
+    private User other;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        author = entityManager.persist(user("author"));
+        executor = entityManager.persist(user("executor"));
+        other = entityManager.persist(user("other"));
+        Task task = Task.builder()
+                .title("Task")
+                .status(Status.NOT_LAUNCH)
+                .priority(Priority.MEDIUM)
+                .author(author)
+                .build();
+        task.addExecutor(executor);
+        for (int c = 0; c < 3; c++) {
+            task.addComment(Comment.builder()
+                    .text("Comment " + c)
+                    .task(task)
+                    .user(c % 2 == 0 ? executor : author)
+                    .build());
+        }
+        taskId = entityManager.persist(task).getId();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void statusUpdateLoadsTaskOnce() {
+        Statistics statistics = statistics();
+
+        TaskDto dto = taskService.updateStatus(executor, taskId, Status.DONE,
+                null);
+
+        assertEquals(Status.DONE, dto.getStatus());
+        assertEquals(3, dto.getComments().size());
+        assertEquals(3, statistics.getPrepareStatementCount());
+        entityManager.clear();
+        assertEquals(Status.DONE, entityManager.find(Task.class, taskId).getStatus());
+    }
+
+    @Test
+    void taskUpdateConflictsWithConcurrentChange() {
+        // Задачу меняют в обход Hibernate между чтением и записью
+        doAnswer(invocation -> jdbcTemplate.update(
+                "update tasks set version = version + 1 where id = ?", taskId))
+                .when(taskSearchIndex).tasksChanged(List.of(taskId));
+
+        assertThrows(ConflictException.class, () -> taskService.updateTask(
+                author, taskId, Task.builder()
+                        .status(Status.DONE)
+                        .executors(Set.of(executor))
+                        .build()));
+    }
+
+    @Test
+    void statusUpdateByOtherUserChangesNothing() {
+        Statistics statistics = statistics();
+
+        TaskDto dto = taskService.updateStatus(other, taskId, Status.DONE,
+                null);
+
+        assertEquals(Status.NOT_LAUNCH, dto.getStatus());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void statusUpdateChecksVersion() {
+        Long version = entityManager.find(Task.class, taskId).getVersion();
+        entityManager.clear();
+
+        assertThrows(ConflictException.class, () -> taskService.updateStatus(
+                executor, taskId, Status.DONE, version + 1));
+        TaskDto dto = taskService.updateStatus(executor, taskId,
+                Status.IN_PROCESS, version);
+
+        assertEquals(Status.IN_PROCESS, dto.getStatus());
+        assertEquals(version + 1, dto.getVersion());
+    }
+
+    @Test
+    void executorChangesWriteOnlyChangedRows() {
+        Statistics statistics = statistics();
+
+        TaskDto added = taskService.addExecutor(author, taskId, other);
+
+        assertEquals(Set.of("executor", "other"), added.getExecutors());
+        assertEquals(4, statistics.getPrepareStatementCount());
+
+        entityManager.clear();
+        statistics.clear();
+        TaskDto deleted = taskService.deleteExecutor(author, taskId, executor);
+
+        assertEquals(Set.of("other"), deleted.getExecutors());
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void executorChangeByOtherUserIsRejected() {
+        assertThrows(ResourceNotFoundException.class,
+                () -> taskService.addExecutor(executor, taskId, other));
+        assertThrows(ResourceNotFoundException.class,
+                () -> taskService.deleteExecutor(author, taskId, null));
+        assertThrows(ResourceNotFoundException.class,
+                () -> taskService.updateStatus(executor, -1L, Status.DONE, null));
+    }
+
+    @Test
+    void statsFallBackToAggregatesWithoutMaintainedRows() {
+        Statistics statistics = statistics();
+
+        TaskStatsDto stats = taskService.getTaskStats(executor);
+
+        assertEquals(0, stats.getAuthored());
+        assertEquals(1, stats.getAssigned());
+        assertEquals(1, stats.getAssignedByStatus().get(Status.NOT_LAUNCH));
+        assertEquals(0, stats.getAssignedByStatus().get(Status.DONE));
+        assertEquals(1, stats.getAssignedByPriority().get(Priority.MEDIUM));
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void statsCountTasksWithoutStatusOrPriorityInTotals() {
+        Task task = Task.builder()
+                .title("Unsorted")
+                .author(executor)
+                .build();
+        task.addExecutor(executor);
+        entityManager.persist(task);
+        entityManager.flush();
+        entityManager.clear();
+
+        TaskStatsDto stats = taskService.getTaskStats(executor);
+
+        assertEquals(1, stats.getAuthored());
+        assertEquals(2, stats.getAssigned());
+        assertEquals(0, stats.getAuthoredByStatus().values().stream()
+                .mapToLong(Long::longValue).sum());
+        assertEquals(1, stats.getAssignedByStatus().get(Status.NOT_LAUNCH));
+        assertEquals(1, stats.getAssignedByPriority().get(Priority.MEDIUM));
+    }
+
+    @Test
+    void statsReadMaintainedRowsInSingleStatement() {
+        entityManager.getEntityManager().createNativeQuery(
+                        "insert into user_task_stats (user_id, role_in_task, " +
+                                "status, priority, task_count) values " +
+                                "(?1, 'AUTHOR', 'DONE', 'HIGH', 7), " +
+                                "(?1, 'AUTHOR', 'DONE', 'LOW', 2), " +
+                                "(?1, 'AUTHOR', 'NONE', 'NONE', 3), " +
+                                "(?1, 'EXECUTOR', 'IN_PROCESS', 'LOW', 4)")
+                .setParameter(1, author.getId())
+                .executeUpdate();
+        Statistics statistics = statistics();
+
+        TaskStatsDto stats = taskService.getTaskStats(author);
+
+        assertEquals(12, stats.getAuthored());
+        assertEquals(9, stats.getAuthoredByStatus().get(Status.DONE));
+        assertEquals(2, stats.getAuthoredByPriority().get(Priority.LOW));
+        assertEquals(4, stats.getAssigned());
+        assertEquals(4, stats.getAssignedByStatus().get(Status.IN_PROCESS));
+        assertEquals(0, stats.getAssignedByPriority().get(Priority.HIGH));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void statsRebuildRequiresPostgresql() {
+        assertThrows(NotSupportedException.class,
+                () -> taskService.rebuildTaskStats());
+    }
+
+    @Test
+    void searchQueryIsSplitIntoWords() {
+        assertEquals(List.of("отчет", "q3", "sales"),
+                TaskServiceImpl.searchTerms("Отчет Q3: sales');"));
+        assertEquals(List.of(), TaskServiceImpl.searchTerms(" &|!:* "));
+        assertThrows(BadRequestException.class, () -> taskService.searchTasks(
+                new TaskSearchRequest(), TaskSearchCursor.first(), 10));
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -0,0 +1,199 @@
+package com.company.taskmanager.services.task.search;
+
+import com.company.taskmanager.config.HibernateCacheConfig;
+import com.company.taskmanager.models.comment.Comment;
+import com.company.taskmanager.models.task.Priority;
+import com.company.taskmanager.models.task.Status;
+import com.company.taskmanager.models.task.Task;
+import com.company.taskmanager.models.user.User;
+import com.company.taskmanager.repositories.task.TaskRepository;
+import com.company.taskmanager.repositories.task.TaskSearchView;
+import com.company.taskmanager.repositories.user.UserRepository;
+import com.company.taskmanager.services.task.TaskSearchCursor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static com.company.taskmanager.support.TestTasks.task;
+import static com.company.taskmanager.support.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Import({LuceneTaskSearchIndex.class, HibernateCacheConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LuceneTaskSearchIndexTest {
+    private static final int REPORTS = 7;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User author;
+    private User commenter;
+    private Long commentedTaskId;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) throws Exception {
+        String path = Files.createTempDirectory("task-search-index").toString();
+        registry.add("task.search.index", () -> "lucene");
+        registry.add("task.search.lucene.path", () -> path);
+        registry.add("task.search.lucene.commit-interval", () -> "1s");
+    }
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(user("author"));
+        commenter = userRepository.save(user("commenter"));
+        for (int i = 0; i < REPORTS; i++) {
+            taskRepository.save(described("Quarterly report " + i, "Sales numbers",
+                    i % 2 == 0 ? Status.DONE : Status.IN_PROCESS));
+        }
+        Task commented = described("Fix login", "Nothing related", Status.DONE);
+        commented.addComment(Comment.builder()
+                .text("Blocked by the quarterly report")
+                .task(commented)
+                .user(commenter)
+                .build());
+        commentedTaskId = taskRepository.save(commented).getId();
+        taskSearchIndex.reindex();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+        taskSearchIndex.reindex();
+    }
+
+    @Test
+    void titleMatchesRankAboveCommentMatches() {
+        List<TaskSearchView> hits = search(List.of("quart", "rep"), null, 20);
+
+        assertEquals(REPORTS + 1, hits.size());
+        TaskSearchView last = hits.get(hits.size() - 1);
+        assertEquals(commentedTaskId, last.getId());
+        assertEquals("Fix login", last.getSnippet());
+        assertTrue(last.getCommentSnippet().contains("<b>quarterly</b>"));
+        assertTrue(hits.get(0).getSnippet().contains("<b>report</b>"));
+        assertNull(hits.get(0).getCommentSnippet());
+        assertEquals("author", hits.get(0).getAuthor());
+    }
+
+    @Test
+    void filtersAndCursorWalkAllMatches() {
+        List<Long> seen = new ArrayList<>();
+        TaskSearchCursor cursor = TaskSearchCursor.first();
+        List<TaskSearchView> page;
+        do {
+            page = taskSearchIndex.search(List.of("report"), Status.DONE,
+                    Priority.MEDIUM, author.getId(), cursor, 2);
+            page.forEach(hit -> {
+                assertEquals(Status.DONE.name(), hit.getStatus());
+                seen.add(hit.getId());
+            });
+            if (!page.isEmpty()) {
+                TaskSearchView last = page.get(page.size() - 1);
+                cursor = new TaskSearchCursor(last.getRank(), last.getId());
+            }
+        } while (page.size() == 2);
+
+        // Четные отчеты и задача, найденная по комментарию.
+        assertEquals(REPORTS / 2 + 2, seen.size());
+        assertEquals(seen.size(), Set.copyOf(seen).size());
+        assertTrue(taskSearchIndex.search(List.of("report"), null, null,
+                commenter.getId(), TaskSearchCursor.first(), 10).isEmpty());
+    }
+
+    @Test
+    void changesAreIndexedInBackground() {
+        Long id = taskRepository.save(task("Migrate invoices", Status.NOT_LAUNCH,
+                author)).getId();
+        taskSearchIndex.tasksChanged(List.of(id));
+        awaitSearch(List.of("invoic"), hits -> hits.size() == 1);
+
+        taskRepository.deleteById(id);
+        taskSearchIndex.tasksChanged(List.of(id));
+        awaitSearch(List.of("invoic"), List::isEmpty);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                userRepository.delete(userRepository.findById(commenter.getId())
+                        .orElseThrow()));
+        taskSearchIndex.userDeleted(commenter.getId());
+        awaitSearch(List.of("blocked"), List::isEmpty);
+    }
+
+    @Test
+    void prefixMatchesBeyondManyExpansions() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            tasks.add(task("Ticket" + i, Status.NOT_LAUNCH, author));
+        }
+        taskRepository.saveAll(tasks);
+        taskSearchIndex.reindex();
+
+        assertEquals(120, search(List.of("ticket"), null, 200).size());
+    }
+
+    @Test
+    void renamedAuthorIsReindexed() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                userRepository.findById(author.getId()).orElseThrow()
+                        .setUsername("renamed"));
+        taskSearchIndex.userChanged(author.getId(), "renamed");
+
+        awaitSearch(List.of("sales"), hits -> hits.size() == REPORTS
+                && hits.stream().allMatch(hit -> hit.getAuthor().equals("renamed")));
+    }
+
+    private List<TaskSearchView> search(List<String> terms, Status status,
+                                        int limit) {
+        return taskSearchIndex.search(terms, status, null, null,
+                TaskSearchCursor.first(), limit);
+    }
+
+    private void awaitSearch(List<String> terms,
+                             Predicate<List<TaskSearchView>> condition) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.test(search(terms, null, 10))) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Index was not updated for " + terms);
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private Task described(String title, String description, Status status) {
+        Task task = task(title, status, author);
+        task.setDescription(description);
+        return task;
+    }
+}
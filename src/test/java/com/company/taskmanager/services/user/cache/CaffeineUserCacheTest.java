@@ -0,0 +1,68 @@
+package com.company.taskmanager.services.user.cache;
+
+import com.company.taskmanager.models.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.company.taskmanager.support.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CaffeineUserCacheTest {
+    private static final Long USER_ID = 1L;
+
+    private CaffeineUserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new CaffeineUserCache(100, Duration.ofMinutes(1), null);
+    }
+
+    @Test
+    void snapshotLoadedBeforeEvictionIsNotCached() {
+        long loadStamp = userCache.loadStamp();
+        User stale = stored("old-password");
+
+        // Пользователь изменен и сброшен, пока прежний снимок загружался
+        userCache.evict(stored("new-password"));
+        userCache.put(stale, loadStamp);
+
+        assertTrue(userCache.getById(USER_ID).isEmpty());
+        assertTrue(userCache.getByUsername("user").isEmpty());
+
+        userCache.put(stored("new-password"), userCache.loadStamp());
+
+        assertEquals("new-password",
+                userCache.getByUsername("user").orElseThrow().getPassword());
+    }
+
+    @Test
+    void snapshotLoadedBeforeClearIsNotCached() {
+        long loadStamp = userCache.loadStamp();
+
+        userCache.clear();
+        userCache.put(stored("password"), loadStamp);
+
+        assertTrue(userCache.getById(USER_ID).isEmpty());
+    }
+
+    @Test
+    void evictionOfOtherUserDoesNotRejectSnapshot() {
+        long loadStamp = userCache.loadStamp();
+
+        userCache.evictById(USER_ID + 1);
+        userCache.put(stored("password"), loadStamp);
+
+        assertEquals(USER_ID, userCache.getByEmail("user@mail.com")
+                .orElseThrow().getId());
+    }
+
+    private static User stored(String password) {
+        User user = user("user");
+        user.setId(USER_ID);
+        user.setPassword(password);
+        return user;
+    }
+}
@@ -0,0 +1,73 @@
+package com.company.taskmanager.support;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Встроенный PostgreSQL для тестов триггеров, полнотекстового поиска
+ * и реактивного доступа, которые нельзя проверить на H2.
+ * <p>
+ * Сервер запускается один раз на процесс, а каждый тестовый контекст
+ * получает собственную базу данных, схема которой создается миграциями
+ * Flyway. Используется вместе с профилем {@code postgres}.
+ * </p>
+ */
+public final class EmbeddedPostgresDatabase {
+    private static final String USERNAME = "postgres";
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    private static EmbeddedPostgres server;
+
+    private EmbeddedPostgresDatabase() {
+    }
+
+    /**
+     * Создает новую базу данных и передает контексту параметры подключения
+     * к ней по JDBC и R2DBC.
+     *
+     * @param registry реестр свойств тестового контекста
+     */
+    public static void register(DynamicPropertyRegistry registry) {
+        EmbeddedPostgres postgres = server();
+        String database = "test_" + DATABASES.incrementAndGet();
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE " + database);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot create database " + database, e);
+        }
+        registry.add("spring.datasource.url",
+                () -> postgres.getJdbcUrl(USERNAME, database));
+        registry.add("spring.datasource.username", () -> USERNAME);
+        registry.add("spring.datasource.password", () -> USERNAME);
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://localhost:"
+                + postgres.getPort() + "/" + database);
+        registry.add("spring.r2dbc.username", () -> USERNAME);
+        registry.add("spring.r2dbc.password", () -> USERNAME);
+    }
+
+    private static synchronized EmbeddedPostgres server() {
+        if (server == null) {
+            try {
+                server = EmbeddedPostgres.start();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    server.close();
+                } catch (IOException ignored) {
+                    // Процесс все равно завершается
+                }
+            }));
+        }
+        return server;
+    }
+}
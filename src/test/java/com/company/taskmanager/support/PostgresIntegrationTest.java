@@ -0,0 +1,37 @@
+package com.company.taskmanager.support;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Базовый класс тестов приложения на встроенном PostgreSQL.
+ * <p>
+ * Наследники используют один общий контекст и одну базу данных, поэтому
+ * каждый тест создает собственных пользователей и задачи и проверяет
+ * только их.
+ * </p>
+ */
+@SpringBootTest
+@ActiveProfiles("postgres")
+public abstract class PostgresIntegrationTest {
+    private static final AtomicInteger NAMES = new AtomicInteger();
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresDatabase.register(registry);
+    }
+
+    /**
+     * Создает имя, не повторяющееся в общей базе данных.
+     *
+     * @param prefix начало имени
+     * @return уникальное имя
+     */
+    protected static String uniqueName(String prefix) {
+        return prefix + NAMES.incrementAndGet();
+    }
+}
@@ -0,0 +1,33 @@
+package com.company.taskmanager.support;
+
+import com.company.taskmanager.models.task.Priority;
+import com.company.taskmanager.models.task.Status;
+import com.company.taskmanager.models.task.Task;
+import com.company.taskmanager.models.user.User;
+
+/**
+ * Тестовые задачи.
+ */
+public final class TestTasks {
+
+    private TestTasks() {
+    }
+
+    /**
+     * Создает несохраненную задачу без исполнителей и описания
+     * с приоритетом {@link Priority#MEDIUM}.
+     *
+     * @param title  заголовок задачи
+     * @param status статус задачи
+     * @param author автор задачи
+     * @return задача
+     */
+    public static Task task(String title, Status status, User author) {
+        return Task.builder()
+                .title(title)
+                .status(status)
+                .priority(Priority.MEDIUM)
+                .author(author)
+                .build();
+    }
+}
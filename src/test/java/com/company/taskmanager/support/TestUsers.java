@@ -0,0 +1,29 @@
+package com.company.taskmanager.support;
+
+import com.company.taskmanager.models.user.Role;
+import com.company.taskmanager.models.user.User;
+
+/**
+ * Тестовые пользователи.
+ */
+public final class TestUsers {
+
+    private TestUsers() {
+    }
+
+    /**
+     * Создает несохраненного пользователя с ролью {@link Role#USER}
+     * и адресом почты, построенным из имени.
+     *
+     * @param username имя пользователя
+     * @return пользователь
+     */
+    public static User user(String username) {
+        return User.builder()
+                .username(username)
+                .email(username + "@mail.com")
+                .password("password")
+                .role(Role.USER)
+                .build();
+    }
+}
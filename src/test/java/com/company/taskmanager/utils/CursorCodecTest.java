@@ -0,0 +1,46 @@
+package com.company.taskmanager.utils;
+
+import com.company.taskmanager.exceptions.BadRequestException;
+import com.company.taskmanager.services.comment.CommentCursor;
+import com.company.taskmanager.services.task.TaskCursor;
+import com.company.taskmanager.services.task.TaskSearchCursor;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CursorCodecTest {
+
+    @Test
+    void cursorsSurviveRoundTrip() {
+        Instant timestamp = Instant.parse("2024-05-01T10:15:30.123456789Z");
+        TaskCursor task = new TaskCursor(TaskCursor.Order.UPDATED, timestamp, 42L);
+        CommentCursor comment = new CommentCursor(timestamp, 7L);
+        TaskSearchCursor search = new TaskSearchCursor(0.25f, 3L);
+
+        assertEquals(task, TaskCursor.decode(task.encode(), TaskCursor.Order.UPDATED));
+        assertEquals(comment, CommentCursor.decode(comment.encode()));
+        assertEquals(search, TaskSearchCursor.decode(search.encode()));
+    }
+
+    @Test
+    void malformedCursorsAreBadRequests() {
+        String outOfRange = CursorCodec.encode(Long.MAX_VALUE, 0, 1);
+        String overflow = CursorCodec.encode(Instant.MAX.getEpochSecond(),
+                Long.MAX_VALUE, 1);
+
+        assertThrows(BadRequestException.class,
+                () -> CommentCursor.decode(outOfRange));
+        assertThrows(BadRequestException.class,
+                () -> CommentCursor.decode(overflow));
+        assertThrows(BadRequestException.class,
+                () -> CommentCursor.decode("not a cursor"));
+        assertThrows(BadRequestException.class,
+                () -> CommentCursor.decode(CursorCodec.encode(1, 2)));
+        assertThrows(BadRequestException.class, () -> TaskCursor.decode(
+                TaskCursor.first(TaskCursor.Order.CREATED).encode(),
+                TaskCursor.Order.UPDATED));
+    }
+}